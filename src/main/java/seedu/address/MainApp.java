@@ -2,6 +2,8 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -12,23 +14,26 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.IdUtil;
+import seedu.address.commons.util.SequentialIdAllocator;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AppointmentReferenceCheck;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.PastAppointmentLoader;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.appointment.Appointment;
-import seedu.address.model.person.Person;
-import seedu.address.model.person.Type;
-import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.appointment.UniqueAppointmentList;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFormatConverter;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonIdHighWaterMarkStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PartitionedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -61,26 +66,68 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        boolean isAppointmentIdSaved = initIdAllocator(userPrefs.getAddressBookFilePath());
+        UniqueAppointmentList.setColumnsOffHeap(userPrefs.isAppointmentColumnsOffHeap());
+        AddressBookStorage addressBookStorage = AddressBookFormatConverter.createStorage(
+                userPrefs.getAddressBookFilePath(), userPrefs.getAddressBookFormat());
+        PastAppointmentLoader pastAppointmentLoader = PastAppointmentLoader.NONE;
+        PartitionedAddressBookStorage partitionedStorage = null;
+        if (userPrefs.isPastAppointmentsPartitioned()) {
+            partitionedStorage = new PartitionedAddressBookStorage(addressBookStorage,
+                    userPrefs.getArchiveHorizonMonths());
+            addressBookStorage = partitionedStorage;
+            pastAppointmentLoader = partitionedStorage;
+        }
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        model = initModelManager(storage, userPrefs, pastAppointmentLoader);
+        if (!isAppointmentIdSaved && partitionedStorage != null) {
+            // Past appointments are not in the data file, so their ids have to be read from the months
+            partitionedStorage.readPastAppointmentIds().forEach(id -> IdUtil.markUsed(id.toString()));
+        }
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Makes new ids continue after the highest ids reserved by earlier runs, which are saved next to the data file
+     * at {@code addressBookFilePath}. If they cannot be read, new ids have to avoid the ids in the data file and in
+     * the months of past appointments instead, which the caller marks as used.
+     *
+     * @return true if the saved ids cover appointments.
+     */
+    private boolean initIdAllocator(Path addressBookFilePath) {
+        JsonIdHighWaterMarkStorage idStorage = JsonIdHighWaterMarkStorage.forAddressBook(addressBookFilePath);
+        Map<IdUtil.Entities, Long> highWaterMarks;
+        try {
+            highWaterMarks = idStorage.readHighWaterMarks();
+        } catch (DataLoadingException e) {
+            logger.warning("Id file at " + idStorage.getFilePath() + " could not be loaded."
+                    + " New ids will avoid the ids in the stored appointments instead.");
+            highWaterMarks = Collections.emptyMap();
+        }
+        IdUtil.setAllocator(new SequentialIdAllocator(highWaterMarks, idStorage,
+                SequentialIdAllocator.DEFAULT_BLOCK_SIZE));
+        return highWaterMarks.containsKey(IdUtil.Entities.APPOINTMENT);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Appointments that refer to a doctor or patient not in the address book are left out and quarantined.
+     * Past appointments that {@code storage} leaves out of the address book are loaded by
+     * {@code pastAppointmentLoader} when needed.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs,
+                                   PastAppointmentLoader pastAppointmentLoader) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
+        boolean isInitialDataSaved = false;
         try {
             addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
@@ -88,19 +135,14 @@ public class MainApp extends Application {
                         + " populated with a sample AddressBook.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-            AddressBook ab = (AddressBook) initialData;
-            for (Appointment appt : initialData.getAppointmentList()) {
-                try {
-                    Person doctor = ab.getPersonByNric(appt.getDoctorNric());
-                    Person patient = ab.getPersonByNric(appt.getPatientNric());
-
-                    if (!(doctor.getType() == Type.DOCTOR) || !(patient.getType() == Type.PATIENT)) {
-                        throw new PersonNotFoundException();
-                    }
-                } catch (PersonNotFoundException e) {
-                    initialData = new AddressBook();
-                    break;
-                }
+            initialData.getAppointmentList().forEach(appointment ->
+                    IdUtil.markUsed(appointment.getAppointmentId().toString()));
+            isInitialDataSaved = addressBookOptional.isPresent();
+
+            AppointmentReferenceCheck check = new AppointmentReferenceCheck(initialData);
+            if (!check.isPassed()) {
+                initialData = check.getValidAddressBook();
+                isInitialDataSaved = quarantineDanglingAppointments(storage, check);
             }
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
@@ -108,7 +150,32 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        Model model = new ModelManager(initialData, userPrefs, pastAppointmentLoader);
+        if (isInitialDataSaved) {
+            // The data file already holds the initial data, so only later changes need to be saved.
+            model.markAddressBookChangesSaved();
+        }
+        return model;
+    }
+
+    /**
+     * Moves the appointments that failed {@code check} to {@code storage}'s quarantine file, then saves the rest of
+     * the checked address book. If they cannot be quarantined, the data file is left as it is.
+     *
+     * @return true if the rest of the address book was saved.
+     */
+    private boolean quarantineDanglingAppointments(Storage storage, AppointmentReferenceCheck check) {
+        check.getProblems().forEach(logger::warning);
+        try {
+            storage.saveQuarantinedAppointments(check.getDanglingAppointments());
+            storage.saveAddressBook(check.getValidAddressBook());
+            logger.warning(check.getDanglingAppointments().size() + " appointment(s) were moved to "
+                    + storage.getQuarantineFilePath());
+            return true;
+        } catch (IOException e) {
+            logger.warning("Could not quarantine dangling appointments: " + StringUtil.getDetails(e));
+            return false;
+        }
     }
 
     private void initLogging(Config config) {
@@ -195,6 +262,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        storage.flush();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * Formats in which the address book data file can be stored.
+ */
+public enum AddressBookFormat {
+    /** Human-readable json, with an append-only journal of recent changes. */
+    JSON,
+    /** Compact versioned binary, which is smaller and faster to load. */
+    BINARY
+}
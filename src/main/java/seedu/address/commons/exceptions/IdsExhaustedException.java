@@ -0,0 +1,13 @@
+package seedu.address.commons.exceptions;
+
+/**
+ * Signals that every id of an entity has been used, so no new id can be generated for it.
+ */
+public class IdsExhaustedException extends IllegalStateException {
+    /**
+     * @param message should contain the entity that has run out of ids
+     */
+    public IdsExhaustedException(String message) {
+        super(message);
+    }
+}
@@ -1,18 +1,38 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /** Files at least this large are read through memory-mapped regions by {@link #openForReading(Path)}. */
+    public static final long MAPPED_READ_THRESHOLD = 1 << 20;
+
     private static final String CHARSET = "UTF-8";
 
+    // Windows cannot rename a file while it is mapped, and a mapping is only released when it is garbage collected,
+    // so mapping a data file there would make the next save fail to replace it.
+    private static final boolean CAN_MAP_FILES = !System.getProperty("os.name", "").startsWith("Windows");
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -72,12 +92,125 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Opens a file for reading one chunk at a time, without loading it into memory as a whole.
+     * Large files are read through memory-mapped regions, so that their content is read straight from the
+     * operating system's page cache, which also keeps it in memory between launches. Assumes file exists.
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        if (CAN_MAP_FILES && Files.size(file) >= MAPPED_READ_THRESHOLD) {
+            return new MappedInputStream(file);
+        }
+        return new BufferedInputStream(Files.newInputStream(file));
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFile(Path, String, int)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content, 0);
+    }
+
+    /**
+     * Writes given string to a file, keeping the previous {@code generationsToKeep} versions of the file.
+     * Will create the file if it does not exist yet.
+     *
+     * The content is written to a temporary file and forced to disk before it is moved over {@code file}, so a crash
+     * part way through leaves either the old or the new content in place, never a mix of both. Previous versions are
+     * kept by renaming, so the content is only written once. The newest previous version is at
+     * {@code getGenerationPath(file, 1)}.
+     */
+    public static void writeToFile(Path file, String content, int generationsToKeep) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFile(file, out -> out.write(bytes), generationsToKeep);
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file, keeping the previous {@code generationsToKeep}
+     * versions of the file, in the same way as {@link #writeToFile(Path, String, int)}.
+     * The content is streamed to disk as it is produced, so it never has to be held in memory as a whole.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter, int generationsToKeep)
+            throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        createParentDirsOfFile(tempFile);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            // The stream is flushed rather than closed, as closing it would close the channel before it is forced
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            contentWriter.writeTo(out);
+            out.flush();
+            channel.force(true);
+        }
+
+        if (generationsToKeep > 0 && Files.exists(file)) {
+            Files.deleteIfExists(getGenerationPath(file, generationsToKeep));
+            for (int generation = generationsToKeep - 1; generation >= 1; generation--) {
+                Path generationFile = getGenerationPath(file, generation);
+                if (Files.exists(generationFile)) {
+                    moveAtomically(generationFile, getGenerationPath(file, generation + 1));
+                }
+            }
+            moveAtomically(file, getGenerationPath(file, 1));
+        }
+        moveAtomically(tempFile, file);
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Writes the content of a file to the given stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Returns the path of the version of {@code file} written {@code generation} writes before the current one.
+     * Generation 0 is {@code file} itself.
+     */
+    public static Path getGenerationPath(Path file, int generation) {
+        return generation == 0 ? file : file.resolveSibling(file.getFileName() + "." + generation);
+    }
+
+    /**
+     * Returns {@code file} followed by the paths of its previous {@code generations} versions, newest first.
+     */
+    public static List<Path> getGenerationPaths(Path file, int generations) {
+        List<Path> paths = new ArrayList<>();
+        for (int generation = 0; generation <= generations; generation++) {
+            paths.add(getGenerationPath(file, generation));
+        }
+        return paths;
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to disk, so that a file moved into it survives a crash.
+     * Not every platform can open a directory for this, in which case the move is left to the operating system.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Best effort only; the file itself has already been forced to disk.
+        }
     }
 
 }
@@ -0,0 +1,22 @@
+package seedu.address.commons.util;
+
+import seedu.address.commons.exceptions.IdsExhaustedException;
+
+/**
+ * Allocates the numbers of the ids generated by {@link IdUtil}, separately for each entity.
+ * Implementations must be safe to use from several threads at once.
+ */
+public interface IdAllocator {
+
+    /**
+     * Returns a number that has not been allocated or marked as used for {@code entity} before.
+     *
+     * @throws IdsExhaustedException if every number has been used.
+     */
+    long allocate(IdUtil.Entities entity);
+
+    /**
+     * Makes sure that {@code number} is never allocated for {@code entity}, as an id with it already exists.
+     */
+    void markUsed(IdUtil.Entities entity, long number);
+}
@@ -3,13 +3,14 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.util.EnumMap;
-import java.util.HashSet;
-import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-import jdk.jshell.spi.ExecutionControl;
+import seedu.address.commons.exceptions.IdsExhaustedException;
 
 /**
- * Generates unique  String IDs for patients, doctors, and appointments
+ * Generates unique  String IDs for patients, doctors, and appointments.
+ * The numbers of new ids are handed out by an {@link IdAllocator}, in constant time and without retries.
  */
 public class IdUtil {
 
@@ -52,29 +53,48 @@ public class IdUtil {
         }
     }
 
+    // Number of digits after the entity letter of an id
+    private static final int ID_DIGITS = 8;
+
     // EnumMap storing entities and their corresponding used up ids.
-    private static final EnumMap<Entities, HashSet<String>> allIds = new EnumMap<>(Entities.class);
+    private static final EnumMap<Entities, Set<String>> allIds = new EnumMap<>(Entities.class);
+
+    private static volatile IdAllocator allocator = new SequentialIdAllocator();
+
+    static {
+        for (Entities entity : Entities.values()) {
+            allIds.put(entity, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * Returns the allocator of the numbers of new ids.
+     */
+    public static IdAllocator getAllocator() {
+        return allocator;
+    }
+
+    /**
+     * Replaces the allocator of the numbers of new ids.
+     */
+    public static void setAllocator(IdAllocator newAllocator) {
+        requireNonNull(newAllocator);
+        allocator = newAllocator;
+    }
 
     /**
      * Generates a new id based on input entity.
      *
      * @param entity type of id to generate
      * @return String id
+     * @throws IdsExhaustedException if every id of {@code entity} has been used
      */
     public static String generateNewId(Entities entity) {
-        HashSet<String> idSet = allIds.get(entity);
-        if (idSet == null) {
-            idSet = new HashSet<>();
-            allIds.put(entity, idSet);
-        }
-        Random random = new Random();
-        String initId = String.valueOf(random.nextInt(90000000) + 10000000);
-        while (idSet.contains(initId)) {
-            initId = String.valueOf(random.nextInt(90000000) + 10000000);;
-        }
-        idSet.add(initId);
+        requireNonNull(entity);
+        String number = String.format("%0" + ID_DIGITS + "d", allocator.allocate(entity));
+        allIds.get(entity).add(number);
 
-        return entity.getLetter() + initId;
+        return entity.getLetter() + number;
     }
 
     /**
@@ -84,27 +104,26 @@ public class IdUtil {
     public static void deleteId(String id) {
         requireNonNull(id);
         Entities entity = Entities.getEntityFromChar(id.substring(0, 1).charAt(0));
-        HashSet<String> idSet = allIds.get(entity);
-        idSet.remove(id.substring(1, id.length()));
+        allIds.get(entity).remove(id.substring(1));
     }
 
     /**
-     * Returns allIds as an unmodifiable map
-     * @return unmodifiable map containing ids
+     * Returns true if the id has been generated or marked as used, and not deleted since.
      */
     public static boolean hasId(String id) {
         requireNonNull(id);
         Entities entity = Entities.getEntityFromChar(id.substring(0, 1).charAt(0));
-        HashSet<String> idSet = allIds.get(entity);
-        return idSet.contains(id.substring(1, id.length()));
+        return allIds.get(entity).contains(id.substring(1));
     }
 
     /**
-     * Updates map with initial values from storage
-     * @throws ExecutionControl.NotImplementedException
+     * Marks an id loaded from storage as used, so that it is never generated again.
      */
-    public static void initalMapUpdate() throws ExecutionControl.NotImplementedException {
-        throw new ExecutionControl.NotImplementedException("to be implemented");
+    public static void markUsed(String id) {
+        requireNonNull(id);
+        Entities entity = Entities.getEntityFromChar(id.substring(0, 1).charAt(0));
+        String number = id.substring(1);
+        allocator.markUsed(entity, Long.parseLong(number));
+        allIds.get(entity).add(number);
     }
-
 }
@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,7 +12,11 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -40,7 +45,12 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, 0);
+    }
+
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, int generationsToKeep)
+            throws IOException {
+        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize), generationsToKeep);
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -91,6 +101,42 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the Json object to the specified file, keeping the previous {@code generationsToKeep} versions of the
+     * file. Overwrites existing file if it exists, creates a new file if it doesn't.
+     *
+     * @see FileUtil#writeToFile(Path, String, int)
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, int generationsToKeep) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        serializeObjectToJsonFile(filePath, jsonFile, generationsToKeep);
+    }
+
+
+    /**
+     * Returns a parser over the JSON file at {@code filePath}, for reading large files one value at a time.
+     * Large files are parsed straight from memory-mapped regions of the file.
+     * Values can be read from the parser with {@link JsonParser#readValueAs(Class)}.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(FileUtil.openForReading(filePath));
+    }
+
+    /**
+     * Returns a generator that writes pretty printed JSON to {@code out}, for writing large files one value at a
+     * time. Values can be written to the generator with {@link JsonGenerator#writeObject(Object)}.
+     * Closing the generator does not close {@code out}.
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setPrettyPrinter(new DefaultPrettyPrinter());
+        return generator;
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +157,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single line of JSON, without pretty printing.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, on a single line
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,93 @@
+package seedu.address.commons.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An {@code InputStream} that reads a file through memory-mapped regions of it.
+ *
+ * Reads are served straight from the operating system's page cache, without first copying the file into a buffer
+ * on the heap. Files larger than a single mapping can address are mapped one region at a time.
+ */
+public class MappedInputStream extends InputStream {
+
+    static final long DEFAULT_REGION_SIZE = Integer.MAX_VALUE;
+
+    private final FileChannel channel;
+    private final long size;
+    private final long regionSize;
+    private long nextRegionStart = 0;
+    private MappedByteBuffer region;
+
+    /**
+     * Opens {@code file} for reading through memory-mapped regions.
+     */
+    public MappedInputStream(Path file) throws IOException {
+        this(file, DEFAULT_REGION_SIZE);
+    }
+
+    /**
+     * Opens {@code file} for reading through memory-mapped regions of at most {@code regionSize} bytes.
+     */
+    MappedInputStream(Path file, long regionSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.regionSize = regionSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!hasRemainingInRegion()) {
+            return -1;
+        }
+        return region.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!hasRemainingInRegion()) {
+            return -1;
+        }
+        int count = Math.min(length, region.remaining());
+        region.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return region == null ? 0 : region.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // The regions stay readable after the channel is closed, and are unmapped once they are garbage collected
+        region = null;
+        channel.close();
+    }
+
+    /**
+     * Maps the next region of the file if the current one has been read in full.
+     *
+     * @return false if the whole file has been read.
+     */
+    private boolean hasRemainingInRegion() throws IOException {
+        if (region != null && region.hasRemaining()) {
+            return true;
+        }
+        if (nextRegionStart >= size) {
+            return false;
+        }
+
+        long length = Math.min(regionSize, size - nextRegionStart);
+        region = channel.map(FileChannel.MapMode.READ_ONLY, nextRegionStart, length);
+        nextRegionStart += length;
+        return true;
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IdsExhaustedException;
+
+/**
+ * Allocates id numbers in increasing order, with a separate counter for each entity.
+ *
+ * Numbers are allocated from {@link #FIRST_NUMBER} to {@link #LAST_NUMBER}. As 8 digit ids, these all start with
+ * a 0, which the random ids generated by earlier versions never did, so the two can never clash.
+ *
+ * Numbers are reserved in blocks of {@code blockSize}. The end of each block is saved to a {@link HighWaterMarkStore}
+ * before any number in it is handed out, so numbers are never reused after a restart, even if the ids that had them
+ * were never saved or are not loaded.
+ */
+public class SequentialIdAllocator implements IdAllocator {
+
+    public static final long FIRST_NUMBER = 1;
+    public static final long LAST_NUMBER = 9_999_999;
+    public static final int DEFAULT_BLOCK_SIZE = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(SequentialIdAllocator.class);
+
+    private final Map<IdUtil.Entities, Counter> counters = new EnumMap<>(IdUtil.Entities.class);
+    private final HighWaterMarkStore store;
+    private final int blockSize;
+
+    /**
+     * Creates a {@code SequentialIdAllocator} that starts from {@link #FIRST_NUMBER} and saves nothing.
+     */
+    public SequentialIdAllocator() {
+        this(Collections.emptyMap(), (entity, highWaterMark) -> {}, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Creates a {@code SequentialIdAllocator} that continues after the numbers in {@code highWaterMarks}, and saves
+     * each block it reserves to {@code store}.
+     */
+    public SequentialIdAllocator(Map<IdUtil.Entities, Long> highWaterMarks, HighWaterMarkStore store,
+                                 int blockSize) {
+        requireNonNull(highWaterMarks);
+        requireNonNull(store);
+        AppUtil.checkArgument(blockSize > 0, "Block size must be positive");
+        this.store = store;
+        this.blockSize = blockSize;
+        for (IdUtil.Entities entity : IdUtil.Entities.values()) {
+            long highWaterMark = Math.max(FIRST_NUMBER - 1, highWaterMarks.getOrDefault(entity, FIRST_NUMBER - 1));
+            counters.put(entity, new Counter(highWaterMark));
+        }
+    }
+
+    @Override
+    public long allocate(IdUtil.Entities entity) {
+        Counter counter = counters.get(entity);
+        synchronized (counter) {
+            if (counter.next > LAST_NUMBER) {
+                throw new IdsExhaustedException("No more ids can be generated for " + entity);
+            }
+            if (counter.next > counter.reservedUpTo) {
+                counter.reservedUpTo = Math.min(LAST_NUMBER, counter.next + blockSize - 1);
+                saveHighWaterMark(entity, counter.reservedUpTo);
+            }
+            return counter.next++;
+        }
+    }
+
+    @Override
+    public void markUsed(IdUtil.Entities entity, long number) {
+        if (number < FIRST_NUMBER || number > LAST_NUMBER) {
+            return;
+        }
+        Counter counter = counters.get(entity);
+        synchronized (counter) {
+            counter.next = Math.max(counter.next, number + 1);
+        }
+    }
+
+    private void saveHighWaterMark(IdUtil.Entities entity, long highWaterMark) {
+        try {
+            store.saveHighWaterMark(entity, highWaterMark);
+        } catch (IOException ioe) {
+            // The ids can still be used. Only ids that were never saved could be generated again after a restart.
+            logger.warning("Could not save the highest reserved id of " + entity + ": " + ioe);
+        }
+    }
+
+    /**
+     * Saves the highest number reserved for each entity.
+     */
+    @FunctionalInterface
+    public interface HighWaterMarkStore {
+        /**
+         * Saves {@code highWaterMark} as the highest number reserved for {@code entity}.
+         */
+        void saveHighWaterMark(IdUtil.Entities entity, long highWaterMark) throws IOException;
+    }
+
+    /**
+     * The next number of an entity, and the end of the block it is in.
+     */
+    private static class Counter {
+        private long next;
+        private long reservedUpTo;
+
+        Counter(long highWaterMark) {
+            next = highWaterMark + 1;
+            reservedUpTo = highWaterMark;
+        }
+    }
+}
@@ -5,13 +5,22 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final int SOUNDEX_LENGTH = 4;
+    /** The Soundex digit of each letter from A to Z: 0 for vowels and Y, and - for H and W. */
+    private static final String SOUNDEX_DIGITS = "0123012-02245501262301-202";
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -29,15 +38,106 @@ public class StringUtil {
 
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        checkArgument(WHITESPACE.split(preppedWord).length == 1, "Word parameter should be a single word");
 
         String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+        String[] wordsInPreppedSentence = WHITESPACE.split(preppedSentence);
 
         return Arrays.stream(wordsInPreppedSentence)
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the words of {@code sentence}, which are separated by whitespace.
+     */
+    public static List<String> splitWords(String sentence) {
+        requireNonNull(sentence);
+        List<String> words = new ArrayList<>();
+        for (String word : WHITESPACE.split(sentence)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns {@code s} with each character case-folded, so that two strings are equal after folding exactly when
+     * {@link String#equalsIgnoreCase(String)} holds for them.
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        char[] folded = new char[s.length()];
+        for (int i = 0; i < s.length(); i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Returns the Soundex code of {@code word}, e.g. {@code M530} for both {@code Mohamed} and {@code Muhammad}:
+     * its first letter followed by three digits that stand for the consonants after it, so that words that sound
+     * alike mostly get the same code. Characters other than the letters A to Z are ignored, and the empty string is
+     * returned if there are none.
+     */
+    public static String getSoundex(String word) {
+        requireNonNull(word);
+        StringBuilder code = new StringBuilder(SOUNDEX_LENGTH);
+        char lastDigit = 0;
+        for (int i = 0; i < word.length() && code.length() < SOUNDEX_LENGTH; i++) {
+            char letter = Character.toUpperCase(word.charAt(i));
+            if (letter < 'A' || letter > 'Z') {
+                continue;
+            }
+
+            char digit = SOUNDEX_DIGITS.charAt(letter - 'A');
+            if (code.length() == 0) {
+                code.append(letter);
+            } else if (digit != '0' && digit != lastDigit && digit != '-') {
+                code.append(digit);
+            }
+            // H and W do not separate two consonants with the same digit, but vowels do
+            if (digit != '-') {
+                lastDigit = digit;
+            }
+        }
+
+        if (code.length() == 0) {
+            return "";
+        }
+        while (code.length() < SOUNDEX_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code s} and {@code t}, i.e. the least number of characters that
+     * have to be inserted, deleted or replaced to turn one into the other.
+     */
+    public static int getEditDistance(String s, String t) {
+        requireNonNull(s);
+        requireNonNull(t);
+        int[] previousRow = new int[t.length() + 1];
+        int[] currentRow = new int[t.length() + 1];
+        for (int j = 0; j <= t.length(); j++) {
+            previousRow[j] = j;
+        }
+
+        for (int i = 1; i <= s.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= t.length(); j++) {
+                int replaceCost = s.charAt(i - 1) == t.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + replaceCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[t.length()];
+    }
+
     /**
      * Checks if the given sentence contains the specified substring, ignoring case.
      *
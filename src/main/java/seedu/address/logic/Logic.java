@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +26,13 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given an error message whenever the data could not be saved.
+     * Data is saved in the background, so the handler may be called on a thread other than the one that
+     * executed the command.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
     /**
      * Returns the AddressBook.
      *
@@ -37,6 +46,14 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of appointments */
     ObservableList<Appointment> getFilteredAppointmentList();
 
+    /**
+     * Returns up to {@code limit} persons whose NRIC, or a word of whose name, starts with {@code prefix}.
+     * This can be called from a background thread.
+     *
+     * @see seedu.address.model.Model#getPersonsWithPrefix(String, int)
+     */
+    List<Person> getPersonsWithPrefix(String prefix, int limit);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -3,6 +3,8 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -13,6 +15,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.appointment.Appointment;
@@ -50,22 +53,43 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        AddressBookChanges changes = model.getAddressBookChanges();
+        if (changes.isEmpty()) {
+            return commandResult;
         }
 
+        // Bursts of commands are coalesced into fewer writes; failures are reported through the save failure handler
+        storage.saveAddressBookChangesInBackground(model.getAddressBook(), changes);
+        model.markAddressBookChangesSaved();
+
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        storage.setSaveFailureHandler(ioe -> handler.accept(getSaveFailureMessage(ioe)));
+    }
+
+    /**
+     * Returns the message shown to the user when saving the address book fails with {@code ioe}.
+     */
+    static String getSaveFailureMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public List<Person> getPersonsWithPrefix(String prefix, int limit) {
+        return model.getPersonsWithPrefix(prefix, limit);
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
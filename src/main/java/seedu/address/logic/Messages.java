@@ -18,6 +18,13 @@ public class Messages {
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_INVALID_APPOINTMENT_DISPLAYED_INDEX =
                 "The appointment index provided is invalid";
+    public static final String MESSAGE_UNKNOWN_APPOINTMENT_ID = "There is no appointment with the id %1$s";
+    public static final String MESSAGE_ARCHIVED_APPOINTMENT =
+                "This appointment has been archived, and can no longer be edited or deleted";
+    public static final String MESSAGE_PERSON_WITH_ARCHIVED_APPOINTMENTS =
+                "This person has archived appointments, so they can no longer be deleted or have their NRIC edited";
+    public static final String MESSAGE_APPOINTMENT_IDS_EXHAUSTED =
+                "Every appointment id has been used, so no more appointments can be added or edited";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
@@ -1,16 +1,21 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTORNRIC;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENTNRIC;
 
+import seedu.address.commons.exceptions.IdsExhaustedException;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDateTime;
+import seedu.address.model.appointment.AppointmentId;
 import seedu.address.model.appointment.exceptions.InvalidAppointmentException;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 
@@ -34,20 +39,35 @@ public class AddAppointmentCommand extends Command {
     public static final String MESSAGE_SUCCESS = "New Appointment added: %1$s";
     public static final String MESSAGE_DUPLICATE_APPOINTMENT = "This appointment already exists in the MediCLI";
 
-    private final Appointment toAdd;
+    private final Nric doctorNric;
+    private final Nric patientNric;
+    private final AppointmentDateTime appointmentDateTime;
 
     /**
-     * Creates an AddCommand to add the specified {@code Person}
+     * Creates an AddAppointmentCommand to add an appointment of the given doctor and patient at
+     * {@code appointmentDateTime}. The id of the appointment is only reserved when the command is executed.
+     */
+    public AddAppointmentCommand(Nric doctorNric, Nric patientNric, AppointmentDateTime appointmentDateTime) {
+        requireAllNonNull(doctorNric, patientNric, appointmentDateTime);
+        this.doctorNric = doctorNric;
+        this.patientNric = patientNric;
+        this.appointmentDateTime = appointmentDateTime;
+    }
+
+    /**
+     * Creates an AddAppointmentCommand to add an appointment with the same doctor, patient and date time as
+     * {@code appointment}.
      */
     public AddAppointmentCommand(Appointment appointment) {
-        requireNonNull(appointment);
-        toAdd = appointment;
+        this(requireNonNull(appointment).getDoctorNric(), appointment.getPatientNric(),
+                appointment.getAppointmentDateTime());
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
+        Appointment toAdd = createAppointment();
         if (model.hasAppointment(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_APPOINTMENT);
         }
@@ -63,6 +83,26 @@ public class AddAppointmentCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
     }
 
+    /**
+     * Reserves an id and creates the appointment to add with it.
+     *
+     * @throws CommandException if every appointment id has been used, or the date time has passed since parsing.
+     */
+    private Appointment createAppointment() throws CommandException {
+        AppointmentId appointmentId;
+        try {
+            appointmentId = new AppointmentId();
+        } catch (IdsExhaustedException e) {
+            throw new CommandException(Messages.MESSAGE_APPOINTMENT_IDS_EXHAUSTED);
+        }
+
+        try {
+            return new Appointment(doctorNric, patientNric, appointmentDateTime, appointmentId);
+        } catch (IllegalArgumentException e) {
+            throw new CommandException(e.getMessage());
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -75,13 +115,17 @@ public class AddAppointmentCommand extends Command {
         }
 
         AddAppointmentCommand otherAddCommand = (AddAppointmentCommand) other;
-        return toAdd.isSameAppointment(otherAddCommand.toAdd);
+        return doctorNric.equals(otherAddCommand.doctorNric)
+                && patientNric.equals(otherAddCommand.patientNric)
+                && appointmentDateTime.equals(otherAddCommand.appointmentDateTime);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("toAdd", toAdd)
+                .add("doctorNric", doctorNric)
+                .add("patientNric", patientNric)
+                .add("appointmentDateTime", appointmentDateTime)
                 .toString();
     }
 }
@@ -1,8 +1,10 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_APPOINTMENT_ID;
 
 import java.util.List;
+import java.util.Objects;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -10,30 +12,67 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentId;
 
 /**
- * Deletes an appointment identified using it's displayed index from mediCLI.
+ * Deletes an appointment identified using it's displayed index, or its appointment id, from mediCLI.
  */
 public class DeleteAppointmentCommand extends Command {
 
     public static final String COMMAND_WORD = "deleteappt";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the appointment identified by the index number used in the displayed appointment list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the appointment identified by the index number used in the displayed appointment list, "
+            + "or by its appointment id.\n"
+            + "Parameters: INDEX (must be a positive integer) or " + PREFIX_APPOINTMENT_ID + "APPOINTMENT_ID\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_APPOINTMENT_ID + "a00000001";
 
     public static final String MESSAGE_DELETE_APPOINTMENT_SUCCESS = "Deleted Appointment: %1$s";
 
+    // Exactly one of these identifies the appointment to delete
     private final Index targetIndex;
+    private final AppointmentId targetId;
 
+    /**
+     * Creates a DeleteAppointmentCommand to delete the appointment at {@code targetIndex} in the displayed list.
+     */
     public DeleteAppointmentCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
         this.targetIndex = targetIndex;
+        this.targetId = null;
+    }
+
+    /**
+     * Creates a DeleteAppointmentCommand to delete the appointment with the id {@code targetId}, whether or not
+     * it is displayed.
+     */
+    public DeleteAppointmentCommand(AppointmentId targetId) {
+        requireNonNull(targetId);
+        this.targetIndex = null;
+        this.targetId = targetId;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        Appointment appointmentToDelete = getAppointmentToDelete(model);
+        if (model.isArchivedAppointment(appointmentToDelete)) {
+            throw new CommandException(Messages.MESSAGE_ARCHIVED_APPOINTMENT);
+        }
+
+        model.deleteAppointment(appointmentToDelete);
+
+        return new CommandResult(String.format(MESSAGE_DELETE_APPOINTMENT_SUCCESS,
+                    Messages.format(appointmentToDelete)));
+    }
+
+    private Appointment getAppointmentToDelete(Model model) throws CommandException {
+        if (targetId != null) {
+            return model.getAppointmentById(targetId).orElseThrow(() ->
+                    new CommandException(String.format(Messages.MESSAGE_UNKNOWN_APPOINTMENT_ID, targetId)));
+        }
+
         List<Appointment> lastShownList = model.getFilteredAppointmentList();
 
         // Check for valid index
@@ -41,12 +80,7 @@ public class DeleteAppointmentCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_APPOINTMENT_DISPLAYED_INDEX);
         }
 
-        Appointment appointmentToDelete = lastShownList.get(targetIndex.getZeroBased());
-
-        model.deleteAppointment(appointmentToDelete);
-
-        return new CommandResult(String.format(MESSAGE_DELETE_APPOINTMENT_SUCCESS,
-                    Messages.format(appointmentToDelete)));
+        return lastShownList.get(targetIndex.getZeroBased());
     }
 
     @Override
@@ -61,11 +95,17 @@ public class DeleteAppointmentCommand extends Command {
         }
 
         DeleteAppointmentCommand otherDeleteCommand = (DeleteAppointmentCommand) other;
-        return targetIndex.equals(otherDeleteCommand.targetIndex);
+        return Objects.equals(targetIndex, otherDeleteCommand.targetIndex)
+                && Objects.equals(targetId, otherDeleteCommand.targetId);
     }
 
     @Override
     public String toString() {
+        if (targetId != null) {
+            return new ToStringBuilder(this)
+                    .add("targetId", targetId)
+                    .toString();
+        }
         return new ToStringBuilder(this)
                 .add("targetIndex", targetIndex)
                 .toString();
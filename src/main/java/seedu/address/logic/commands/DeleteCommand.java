@@ -44,6 +44,9 @@ public class DeleteCommand extends Command {
         }
 
         Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
+        if (model.hasArchivedAppointments(personToDelete)) {
+            throw new CommandException(Messages.MESSAGE_PERSON_WITH_ARCHIVED_APPOINTMENTS);
+        }
         model.deletePerson(personToDelete);
         String message = (personToDelete.getType() == Type.PATIENT
                 ? MESSAGE_DELETE_PATIENT_SUCCESS
@@ -9,14 +9,15 @@ import java.util.Objects;
 import java.util.Optional;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.IdsExhaustedException;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentDateTime;
+import seedu.address.model.appointment.AppointmentId;
 import seedu.address.model.person.Nric;
 
 /**
@@ -63,6 +64,9 @@ public class EditAppointmentCommand extends Command {
         }
 
         Appointment appointmentToEdit = lastShownList.get(index.getZeroBased());
+        if (model.isArchivedAppointment(appointmentToEdit)) {
+            throw new CommandException(Messages.MESSAGE_ARCHIVED_APPOINTMENT);
+        }
 
         Appointment editedAppointment = createEditedAppointment(appointmentToEdit, editAppointmentDescriptor);
         if (appointmentToEdit.isSameAppointment(editedAppointment) && model.hasAppointment(editedAppointment)) {
@@ -88,9 +92,16 @@ public class EditAppointmentCommand extends Command {
         AppointmentDateTime updatedDateTime = editAppointmentDescriptor
                 .getDate().orElse(appointmentToEdit.getAppointmentDateTime());
 
+        AppointmentId appointmentId;
+        try {
+            appointmentId = new AppointmentId();
+        } catch (IdsExhaustedException e) {
+            throw new CommandException(Messages.MESSAGE_APPOINTMENT_IDS_EXHAUSTED);
+        }
+
         try {
-            return new Appointment(doctorNric, patientNric, updatedDateTime);
-        } catch (ParseException e) {
+            return new Appointment(doctorNric, patientNric, updatedDateTime, appointmentId);
+        } catch (IllegalArgumentException e) {
             throw new CommandException("Unable to edit appointment due to invalid inputs");
         }
     }
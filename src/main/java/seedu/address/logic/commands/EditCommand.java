@@ -8,7 +8,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_APPOINTMENTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -19,9 +18,6 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.appointment.Appointment;
-import seedu.address.model.appointment.AppointmentContainsDoctorPredicate;
-import seedu.address.model.appointment.AppointmentContainsPatientPredicate;
 import seedu.address.model.person.DoB;
 import seedu.address.model.person.Doctor;
 import seedu.address.model.person.Name;
@@ -86,30 +82,12 @@ public class EditCommand extends Command {
         if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
+        if (!personToEdit.getNric().equals(editedPerson.getNric()) && model.hasArchivedAppointments(personToEdit)) {
+            throw new CommandException(Messages.MESSAGE_PERSON_WITH_ARCHIVED_APPOINTMENTS);
+        }
 
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
-        AppointmentContainsDoctorPredicate predicateDoctor =
-                new AppointmentContainsDoctorPredicate(Arrays.asList(personToEdit.getNric().nric));
-        model.updateFilteredAppointmentList(predicateDoctor);
-
-        for (Appointment appt : model.getFilteredAppointmentList()) {
-            if (appt.getDoctorNric().equals(personToEdit.getNric())) {
-                appt.setDoctorNric(editedPerson.getNric());
-            }
-        }
-
-        AppointmentContainsPatientPredicate predicatePatient =
-                new AppointmentContainsPatientPredicate(Arrays.asList(personToEdit.getNric().nric));
-        model.updateFilteredAppointmentList(predicatePatient);
-
-        for (Appointment appt : model.getFilteredAppointmentList()) {
-            if (appt.getPatientNric().equals(personToEdit.getNric())) {
-                appt.setPatientNric(editedPerson.getNric());
-            }
-        }
-
         model.updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
 
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
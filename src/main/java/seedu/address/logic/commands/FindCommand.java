@@ -1,15 +1,23 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.OPTION_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.OPTION_SOUNDS_LIKE;
+
+import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameNearKeywordsPredicate;
+import seedu.address.model.person.NameSoundsLikeKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. With {@code --fuzzy}, names with a word within a few typos of a keyword
+ * are found as well, closest matches first. With {@code --sounds-like}, names with a word that sounds like a keyword
+ * are found instead.
  */
 public class FindCommand extends Command {
 
@@ -17,19 +25,58 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Parameters: [" + OPTION_FUZZY + " | " + OPTION_SOUNDS_LIKE + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + OPTION_FUZZY + " alise\n"
+            + "Example: " + COMMAND_WORD + " " + OPTION_SOUNDS_LIKE + " muhammad";
 
     private final NameContainsKeywordsPredicate predicate;
+    private final NameNearKeywordsPredicate fuzzyPredicate;
+    private final NameSoundsLikeKeywordsPredicate soundsLikePredicate;
 
+    /**
+     * Creates a FindCommand to find persons whose name has any of the words in {@code predicate}.
+     */
     public FindCommand(NameContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
+        this.fuzzyPredicate = null;
+        this.soundsLikePredicate = null;
+    }
+
+    /**
+     * Creates a FindCommand to find persons whose name has a word close to any of the words in
+     * {@code fuzzyPredicate}.
+     */
+    public FindCommand(NameNearKeywordsPredicate fuzzyPredicate) {
+        this.predicate = null;
+        this.fuzzyPredicate = fuzzyPredicate;
+        this.soundsLikePredicate = null;
+    }
+
+    /**
+     * Creates a FindCommand to find persons whose name has a word that sounds like any of the words in
+     * {@code soundsLikePredicate}.
+     */
+    public FindCommand(NameSoundsLikeKeywordsPredicate soundsLikePredicate) {
+        this.predicate = null;
+        this.fuzzyPredicate = null;
+        this.soundsLikePredicate = soundsLikePredicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (fuzzyPredicate != null) {
+            model.updateFilteredPersonList(
+                    model.getPersonNameWordNearCandidates(fuzzyPredicate.getKeywords()), fuzzyPredicate,
+                    fuzzyPredicate.closestFirst());
+        } else if (soundsLikePredicate != null) {
+            model.updateFilteredPersonList(
+                    model.getPersonNameSoundCandidates(soundsLikePredicate.getKeywords()), soundsLikePredicate);
+        } else {
+            // Only the persons found through the name word index are checked against the keywords
+            model.updateFilteredPersonList(model.getPersonNameWordCandidates(predicate.getKeywords()), predicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -46,11 +93,23 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return Objects.equals(predicate, otherFindCommand.predicate)
+                && Objects.equals(fuzzyPredicate, otherFindCommand.fuzzyPredicate)
+                && Objects.equals(soundsLikePredicate, otherFindCommand.soundsLikePredicate);
     }
 
     @Override
     public String toString() {
+        if (fuzzyPredicate != null) {
+            return new ToStringBuilder(this)
+                    .add("fuzzyPredicate", fuzzyPredicate)
+                    .toString();
+        }
+        if (soundsLikePredicate != null) {
+            return new ToStringBuilder(this)
+                    .add("soundsLikePredicate", soundsLikePredicate)
+                    .toString();
+        }
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
                 .toString();
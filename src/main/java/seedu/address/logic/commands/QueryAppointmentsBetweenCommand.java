@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.AppointmentDateTime;
+
+/**
+ * Lists all appointments scheduled within a date time range.
+ * The range is resolved through the model's time-ordered appointment index rather than a scan of every appointment.
+ */
+public class QueryAppointmentsBetweenCommand extends Command {
+
+    public static final String COMMAND_WORD = "apptbetween";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all appointments scheduled between "
+            + "the two specified date times (both inclusive) and displays them as a list with index numbers.\n"
+            + "Parameters: "
+            + PREFIX_FROM + "FROM_DATETIME "
+            + PREFIX_TO + "TO_DATETIME\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FROM + "2024-05-01 00:00 "
+            + PREFIX_TO + "2024-05-01 23:59";
+
+    private final AppointmentDateTime from;
+    private final AppointmentDateTime to;
+
+    /**
+     * Creates a QueryAppointmentsBetweenCommand to list the appointments from {@code from} to {@code to}.
+     */
+    public QueryAppointmentsBetweenCommand(AppointmentDateTime from, AppointmentDateTime to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredAppointmentList(model.getAppointmentsBetween(from, to));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_APPOINTMENTS_LISTED_OVERVIEW,
+                        model.getFilteredAppointmentList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryAppointmentsBetweenCommand)) {
+            return false;
+        }
+
+        QueryAppointmentsBetweenCommand otherCommand = (QueryAppointmentsBetweenCommand) other;
+        return from.equals(otherCommand.from) && to.equals(otherCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
@@ -2,12 +2,17 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentContainsDoctorPredicate;
+import seedu.address.model.person.Nric;
 
 /**
  * Represents a command for querying appointments for a specific doctor.
@@ -35,13 +40,27 @@ public class QueryDoctorAppointmentCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         logger.info("Executing QueryDoctorAppointmentCommand");
-        model.updateFilteredAppointmentList(predicate);
+        model.updateFilteredAppointmentList(findMatchingAppointments(model));
         int numberOfAppointments = model.getFilteredAppointmentList().size();
         logger.info("Number of appointments found: " + numberOfAppointments);
         return new CommandResult(
                 String.format(Messages.MESSAGE_APPOINTMENTS_LISTED_OVERVIEW, numberOfAppointments));
     }
 
+    /**
+     * Returns the appointments matched by {@code predicate}, looked up through the model's doctor NRIC index
+     * instead of testing every appointment. A keyword can only match an appointment if it is a valid NRIC.
+     */
+    private Set<Appointment> findMatchingAppointments(Model model) {
+        Set<Appointment> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : predicate.getKeywords()) {
+            if (Nric.isValidNric(keyword)) {
+                matches.addAll(model.getAppointmentsByDoctorNric(Nric.of(keyword)));
+            }
+        }
+        return matches;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
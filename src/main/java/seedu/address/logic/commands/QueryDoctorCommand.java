@@ -31,7 +31,8 @@ public class QueryDoctorCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        // The fields of a person are only examined if the trigram index cannot rule the person out
+        model.updateFilteredPersonList(model.getPersonKeywordCandidates(predicate.getKeywords()), predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
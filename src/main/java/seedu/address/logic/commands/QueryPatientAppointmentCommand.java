@@ -2,10 +2,16 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentContainsPatientPredicate;
+import seedu.address.model.person.Nric;
 
 /**
  * Represents a command for querying appointments for a specific patient.
@@ -30,12 +36,26 @@ public class QueryPatientAppointmentCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredAppointmentList(predicate);
+        model.updateFilteredAppointmentList(findMatchingAppointments(model));
         return new CommandResult(
                 String.format(Messages.MESSAGE_APPOINTMENTS_LISTED_OVERVIEW,
                         model.getFilteredAppointmentList().size()));
     }
 
+    /**
+     * Returns the appointments matched by {@code predicate}, looked up through the model's patient NRIC index
+     * instead of testing every appointment. A keyword can only match an appointment if it is a valid NRIC.
+     */
+    private Set<Appointment> findMatchingAppointments(Model model) {
+        Set<Appointment> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : predicate.getKeywords()) {
+            if (Nric.isValidNric(keyword)) {
+                matches.addAll(model.getAppointmentsByPatientNric(Nric.of(keyword)));
+            }
+        }
+        return matches;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
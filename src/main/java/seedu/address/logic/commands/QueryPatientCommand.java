@@ -1,16 +1,21 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.OPTION_FUZZY;
+
+import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.NameNearKeywordsPredicate;
 import seedu.address.model.person.PatientContainsKeywordsPredicate;
 
 /**
  * Queries and returns all patients whose name matches the input string.
  * Keyword matching is case insensitive.
  * Query more than one name at a time is supported
+ * With {@code --fuzzy}, patients with a name word within a few typos of a keyword are returned, closest first.
  */
 public class QueryPatientCommand extends Command {
 
@@ -19,19 +24,41 @@ public class QueryPatientCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all patients whose name, "
             + "NRIC, DoB or phone number contains any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob ethan";
+            + "Parameters: [" + OPTION_FUZZY + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob ethan\n"
+            + "Example: " + COMMAND_WORD + " " + OPTION_FUZZY + " alise";
 
     private final PatientContainsKeywordsPredicate predicate;
+    private final NameNearKeywordsPredicate fuzzyPredicate;
 
+    /**
+     * Creates a QueryPatientCommand to find patients with any of the keywords in {@code predicate}.
+     */
     public QueryPatientCommand(PatientContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
+        this.fuzzyPredicate = null;
+    }
+
+    /**
+     * Creates a QueryPatientCommand to find patients whose name has a word close to any of the keywords in
+     * {@code fuzzyPredicate}.
+     */
+    public QueryPatientCommand(NameNearKeywordsPredicate fuzzyPredicate) {
+        this.predicate = null;
+        this.fuzzyPredicate = fuzzyPredicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (fuzzyPredicate != null) {
+            model.updateFilteredPersonList(
+                    model.getPersonNameWordNearCandidates(fuzzyPredicate.getKeywords()), fuzzyPredicate,
+                    fuzzyPredicate.closestFirst());
+        } else {
+            // The fields of a person are only examined if the trigram index cannot rule the person out
+            model.updateFilteredPersonList(model.getPersonKeywordCandidates(predicate.getKeywords()), predicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -48,11 +75,17 @@ public class QueryPatientCommand extends Command {
         }
 
         QueryPatientCommand otherQueryPatientCommand = (QueryPatientCommand) other;
-        return predicate.equals(otherQueryPatientCommand.predicate);
+        return Objects.equals(predicate, otherQueryPatientCommand.predicate)
+                && Objects.equals(fuzzyPredicate, otherQueryPatientCommand.fuzzyPredicate);
     }
 
     @Override
     public String toString() {
+        if (fuzzyPredicate != null) {
+            return new ToStringBuilder(this)
+                    .add("fuzzyPredicate", fuzzyPredicate)
+                    .toString();
+        }
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
                 .toString();
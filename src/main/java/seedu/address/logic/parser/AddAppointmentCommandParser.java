@@ -39,8 +39,10 @@ public class AddAppointmentCommandParser {
         Nric doctorNric = ParserUtil.parseNric(argMultimap.getValue(PREFIX_DOCTORNRIC).get());
         Nric patientNric = ParserUtil.parseNric(argMultimap.getValue(PREFIX_PATIENTNRIC).get());
 
-        Appointment appointment = new Appointment(doctorNric, patientNric, appointmentDateTime);
-        return new AddAppointmentCommand(appointment);
+        if (!Appointment.isValidNewDateTime(appointmentDateTime)) {
+            throw new ParseException(Appointment.MESSAGE_CONSTRAINTS_INVALID_DATE);
+        }
+        return new AddAppointmentCommand(doctorNric, patientNric, appointmentDateTime);
     }
 
     /**
@@ -21,6 +21,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.QueryAppointmentsBetweenCommand;
 import seedu.address.logic.commands.QueryDoctorAppointmentCommand;
 import seedu.address.logic.commands.QueryDoctorCommand;
 import seedu.address.logic.commands.QueryPatientAppointmentCommand;
@@ -109,6 +110,9 @@ public class AddressBookParser {
         case DeleteAppointmentCommand.COMMAND_WORD:
             return new DeleteAppointmentCommandParser().parse(arguments);
 
+        case QueryAppointmentsBetweenCommand.COMMAND_WORD:
+            return new QueryAppointmentsBetweenCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -20,4 +20,13 @@ public class CliSyntax {
     public static final Prefix PREFIX_PATIENTNRIC = new Prefix("pn/");
     public static final Prefix PREFIX_DOCTORNRIC = new Prefix("dn/");
 
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+
+    public static final Prefix PREFIX_APPOINTMENT_ID = new Prefix("id/");
+
+    /* Option definitions */
+    public static final String OPTION_FUZZY = "--fuzzy";
+    public static final String OPTION_SOUNDS_LIKE = "--sounds-like";
+
 }
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_APPOINTMENT_ID;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.DeleteAppointmentCommand;
@@ -18,6 +19,17 @@ public class DeleteAppointmentCommandParser implements Parser<DeleteAppointmentC
      * @throws ParseException if the user input does not conform the expected format
      */
     public DeleteAppointmentCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_APPOINTMENT_ID);
+        if (argMultimap.getValue(PREFIX_APPOINTMENT_ID).isPresent()) {
+            if (!argMultimap.getPreamble().isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteAppointmentCommand.MESSAGE_USAGE));
+            }
+            argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_APPOINTMENT_ID);
+            return new DeleteAppointmentCommand(
+                    ParserUtil.parseAppointmentId(argMultimap.getValue(PREFIX_APPOINTMENT_ID).get()));
+        }
+
         try {
             Index index = ParserUtil.parseIndex(args);
             return new DeleteAppointmentCommand(index);
@@ -1,12 +1,17 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.OPTION_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.OPTION_SOUNDS_LIKE;
 
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameNearKeywordsPredicate;
+import seedu.address.model.person.NameSoundsLikeKeywordsPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -25,9 +30,20 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> nameKeywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        String option = nameKeywords.get(0);
+        if (option.equals(OPTION_FUZZY) || option.equals(OPTION_SOUNDS_LIKE)) {
+            if (nameKeywords.size() == 1) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            List<String> optionKeywords = nameKeywords.subList(1, nameKeywords.size());
+            return option.equals(OPTION_FUZZY)
+                    ? new FindCommand(new NameNearKeywordsPredicate(optionKeywords))
+                    : new FindCommand(new NameSoundsLikeKeywordsPredicate(optionKeywords));
+        }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return new FindCommand(new NameContainsKeywordsPredicate(nameKeywords));
     }
 
 }
@@ -10,6 +10,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.appointment.AppointmentDateTime;
+import seedu.address.model.appointment.AppointmentId;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.DoB;
 import seedu.address.model.person.Email;
@@ -62,7 +63,7 @@ public class ParserUtil {
         if (!Nric.isValidNric(trimmedNric)) {
             throw new ParseException(Nric.MESSAGE_CONSTRAINTS);
         }
-        return new Nric(trimmedNric);
+        return Nric.of(trimmedNric);
     }
 
     /**
@@ -197,4 +198,19 @@ public class ParserUtil {
         }
         return new AppointmentDateTime(datetime);
     }
+
+    /**
+     * Parses a {@code String appointmentId} into an {@code AppointmentId}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code appointmentId} is invalid.
+     */
+    public static AppointmentId parseAppointmentId(String appointmentId) throws ParseException {
+        requireNonNull(appointmentId);
+        String trimmedId = appointmentId.trim();
+        if (!AppointmentId.isValidApptId(trimmedId)) {
+            throw new ParseException(AppointmentId.MESSAGE_CONSTRAINTS);
+        }
+        return new AppointmentId(trimmedId);
+    }
 }
@@ -0,0 +1,52 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.QueryAppointmentsBetweenCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.AppointmentDateTime;
+
+/**
+ * Parses input arguments and creates a new QueryAppointmentsBetweenCommand object
+ */
+public class QueryAppointmentsBetweenCommandParser implements Parser<QueryAppointmentsBetweenCommand> {
+
+    public static final String MESSAGE_INVALID_RANGE = "The start of the range must not be after its end.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryAppointmentsBetweenCommand
+     * and returns a QueryAppointmentsBetweenCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryAppointmentsBetweenCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        if (!argMultimap.getPreamble().isEmpty() || !arePrefixesPresent(argMultimap, PREFIX_FROM, PREFIX_TO)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryAppointmentsBetweenCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO);
+        AppointmentDateTime from = ParserUtil.parseAppointmentDateTime(argMultimap.getValue(PREFIX_FROM).get());
+        AppointmentDateTime to = ParserUtil.parseAppointmentDateTime(argMultimap.getValue(PREFIX_TO).get());
+
+        if (from.compareTo(to) > 0) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+
+        return new QueryAppointmentsBetweenCommand(from, to);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+
+}
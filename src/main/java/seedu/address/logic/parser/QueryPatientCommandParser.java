@@ -1,12 +1,16 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.OPTION_FUZZY;
 
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.QueryPatientCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.NameNearKeywordsPredicate;
 import seedu.address.model.person.PatientContainsKeywordsPredicate;
+import seedu.address.model.person.Type;
 
 /**
  * Parses input arguments and creates a new QueryPatientCommand object
@@ -25,9 +29,17 @@ public class QueryPatientCommandParser implements Parser<QueryPatientCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryPatientCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> nameKeywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        if (nameKeywords.get(0).equals(OPTION_FUZZY)) {
+            if (nameKeywords.size() == 1) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryPatientCommand.MESSAGE_USAGE));
+            }
+            return new QueryPatientCommand(new NameNearKeywordsPredicate(
+                    nameKeywords.subList(1, nameKeywords.size()), Type.PATIENT));
+        }
 
-        return new QueryPatientCommand(new PatientContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return new QueryPatientCommand(new PatientContainsKeywordsPredicate(nameKeywords));
     }
 
 }
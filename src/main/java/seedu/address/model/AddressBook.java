@@ -2,11 +2,15 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDateTime;
+import seedu.address.model.appointment.AppointmentId;
 import seedu.address.model.appointment.UniqueAppointmentList;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
 import seedu.address.model.person.Nric;
@@ -22,6 +26,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueAppointmentList appointments;
+    private AddressBookChanges changes = new AddressBookChanges();
 
 
     /*
@@ -54,6 +59,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        changes.recordReset();
     }
 
     /**
@@ -62,10 +68,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setAppointments(List<Appointment> appointments) throws DuplicateAppointmentException {
         this.appointments.setAppointments(appointments);
+        changes.recordReset();
     }
 
     public void setAppointmentsExistingBook(List<Appointment> appointments) {
         this.appointments.setAppointmentsExistingBook(appointments);
+        changes.recordReset();
     }
 
     /**
@@ -103,12 +111,56 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.containsNric(nric);
     }
 
+    /**
+     * Returns the persons, in the order of the list, whose NRIC, name, date of birth or phone number may contain
+     * any of {@code keywords}, ignoring case.
+     */
+    public List<Person> getPersonKeywordCandidates(List<String> keywords) {
+        requireNonNull(keywords);
+        return persons.getKeywordCandidates(keywords);
+    }
+
+    /**
+     * Returns the persons with any of {@code words} as a word of their name, ignoring case, in the order of the list.
+     */
+    public List<Person> getPersonNameWordCandidates(List<String> words) {
+        requireNonNull(words);
+        return persons.getNameWordCandidates(words);
+    }
+
+    /**
+     * Returns the persons with a word of their name within a few typos of any of {@code words}, ignoring case,
+     * in the order of the list.
+     */
+    public List<Person> getPersonNameWordNearCandidates(List<String> words) {
+        requireNonNull(words);
+        return persons.getNameWordNearCandidates(words);
+    }
+
+    /**
+     * Returns the persons with a word of their name that sounds like any of {@code words}, in the order of the list.
+     */
+    public List<Person> getPersonNameSoundCandidates(List<String> words) {
+        requireNonNull(words);
+        return persons.getNameSoundCandidates(words);
+    }
+
+    /**
+     * Returns up to {@code limit} persons whose NRIC, or a word of whose name, starts with {@code prefix},
+     * ignoring case. This can be called from any thread.
+     */
+    public List<Person> getPersonsWithPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return persons.getPersonsWithPrefix(prefix, limit);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        changes.recordPersonAdded(p);
     }
 
     /**
@@ -118,7 +170,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
-        persons.setPerson(target, editedPerson);
+        Person replaced = persons.setPerson(target, editedPerson);
+        changes.recordPersonReplaced(replaced, editedPerson);
+
+        if (!target.getNric().equals(editedPerson.getNric())) {
+            appointments.updatePersonNric(target.getNric(), editedPerson.getNric())
+                    .forEach(changes::recordAppointmentReplaced);
+        }
     }
 
     /**
@@ -129,7 +187,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setAppointment(Appointment target, Appointment editedAppointment) {
         requireNonNull(editedAppointment);
-        appointments.setAppointment(target, editedAppointment);
+        Appointment replaced = appointments.setAppointment(target, editedAppointment);
+        changes.recordAppointmentReplaced(replaced, editedAppointment);
     }
 
     /**
@@ -138,21 +197,73 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        List<Appointment> appointmentsToDelete = getAppointmentByPerson(key);
-        appointmentsToDelete.forEach(appointments::remove);
-        persons.remove(key);
+        appointments.removeAppointmentsOf(key).forEach(changes::recordAppointmentRemoved);
+        changes.recordPersonRemoved(persons.remove(key));
     }
 
     public List<Appointment> getAppointmentByPerson(Person person) {
         return appointments.contains(person);
     }
 
+    /**
+     * Returns the appointments whose doctor has the NRIC {@code doctorNric}.
+     */
+    public List<Appointment> getAppointmentsByDoctorNric(Nric doctorNric) {
+        return appointments.getAppointmentsByDoctorNric(doctorNric);
+    }
+
+    /**
+     * Returns the appointments whose patient has the NRIC {@code patientNric}.
+     */
+    public List<Appointment> getAppointmentsByPatientNric(Nric patientNric) {
+        return appointments.getAppointmentsByPatientNric(patientNric);
+    }
+
+    /**
+     * Returns the appointment with the id {@code appointmentId}, if there is one.
+     */
+    public Optional<Appointment> getAppointmentById(AppointmentId appointmentId) {
+        return appointments.getAppointmentById(appointmentId);
+    }
+
+    /**
+     * Returns the appointments scheduled between {@code from} and {@code to}, both inclusive,
+     * in chronological order.
+     */
+    public List<Appointment> getAppointmentsBetween(AppointmentDateTime from, AppointmentDateTime to) {
+        return appointments.getAppointmentsBetween(from, to);
+    }
+
+    /**
+     * Returns the appointments of {@code appointments} that are in the address book, in the order of the list.
+     */
+    public List<Appointment> getAppointmentsInListOrder(Collection<Appointment> appointments) {
+        requireNonNull(appointments);
+        return this.appointments.inListOrder(appointments);
+    }
+
     public void addAppointment(Appointment appointment) {
         appointments.add(appointment);
+        changes.recordAppointmentAdded(appointment);
     }
 
+    /**
+     * Adds {@code appointment}, which was loaded from storage, to this {@code AddressBook}.
+     * It is already saved, so it is recorded as loaded rather than added.
+     */
+    public void addLoadedAppointment(Appointment appointment) {
+        appointments.add(appointment);
+        changes.recordAppointmentLoaded(appointment);
+    }
+
+    /**
+     * Removes the appointment equivalent to {@code appointment} from this {@code AddressBook}, if there is one.
+     */
     public void deleteAppointment(Appointment appointment) {
-        appointments.remove(appointment);
+        Appointment removed = appointments.remove(appointment);
+        if (removed != null) {
+            changes.recordAppointmentRemoved(removed);
+        }
     }
 
     public boolean hasAppointment(Appointment appointment) {
@@ -160,6 +271,24 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
 
+    //// change tracking
+
+    /**
+     * Returns the changes made to this {@code AddressBook} since {@link #markChangesSaved()} was last called,
+     * or since it was created.
+     */
+    public AddressBookChanges getChanges() {
+        return changes;
+    }
+
+    /**
+     * Marks every change made so far as saved. The {@code AddressBookChanges} previously returned by
+     * {@link #getChanges()} is not modified further.
+     */
+    public void markChangesSaved() {
+        changes = new AddressBookChanges();
+    }
+
     //// util methods
 
     @Override
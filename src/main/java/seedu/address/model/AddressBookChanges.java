@@ -0,0 +1,273 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * Records the changes made to an {@code AddressBook} since it was last saved.
+ *
+ * Persons and appointments are tracked by identity rather than by {@code equals}, as an edit may leave them equal
+ * to what they replaced. An edited person or appointment is recorded as the old one removed and the new one added,
+ * and the new one is also recorded as the replacement of the old one, so that a copy of the address book can keep
+ * it in the same position. A reset replaces the whole address book, so it is recorded on its own and subsumes any
+ * finer-grained changes.
+ *
+ * Appointments loaded from storage are recorded too, but they are already saved, so they do not count as changes.
+ */
+public class AddressBookChanges {
+
+    private final Map<Person, Long> addedPersons = new IdentityHashMap<>();
+    private final Map<Person, Long> removedPersons = new IdentityHashMap<>();
+    private final Map<Appointment, Long> addedAppointments = new IdentityHashMap<>();
+    private final Map<Appointment, Long> removedAppointments = new IdentityHashMap<>();
+    private final Map<Appointment, Long> loadedAppointments = new IdentityHashMap<>();
+    private final Map<Person, Person> personReplacements = new IdentityHashMap<>();
+    private final Map<Appointment, Appointment> appointmentReplacements = new IdentityHashMap<>();
+    private boolean isReset = false;
+    private long sequence = 0;
+
+    /**
+     * Returns true if nothing has changed since the address book was last saved.
+     * Loading appointments from storage does not change the address book in this sense.
+     */
+    public boolean isEmpty() {
+        return !isReset && addedPersons.isEmpty() && removedPersons.isEmpty()
+                && addedAppointments.isEmpty() && removedAppointments.isEmpty();
+    }
+
+    /**
+     * Returns true if the whole address book was replaced, in which case it has to be saved in full.
+     */
+    public boolean isReset() {
+        return isReset;
+    }
+
+    /**
+     * Returns the persons added since the last save that are still in the address book, in the order they were
+     * added. A person is added again when it replaces an edited person.
+     */
+    public List<Person> getAddedPersons() {
+        return inRecordedOrder(addedPersons);
+    }
+
+    /**
+     * Returns the persons removed since the last save, in the order they were removed.
+     * This may include persons that were added after the last save and so were never saved.
+     */
+    public List<Person> getRemovedPersons() {
+        return inRecordedOrder(removedPersons);
+    }
+
+    /**
+     * Returns the appointments added or changed since the last save that are still in the address book,
+     * in the order they were added.
+     */
+    public List<Appointment> getAddedAppointments() {
+        return inRecordedOrder(addedAppointments);
+    }
+
+    /**
+     * Returns the appointments removed or changed since the last save, in the order they were removed.
+     * This may include appointments that were added after the last save and so were never saved.
+     */
+    public List<Appointment> getRemovedAppointments() {
+        return inRecordedOrder(removedAppointments);
+    }
+
+    /**
+     * Returns the appointments loaded from storage since the last save, in the order they were loaded.
+     * They are already saved, but a copy of the address book needs them all the same.
+     * This may include appointments that were removed or changed after they were loaded.
+     */
+    public List<Appointment> getLoadedAppointments() {
+        return inRecordedOrder(loadedAppointments);
+    }
+
+    /**
+     * Returns the person that replaced {@code person} when it was edited, or null if it was not edited.
+     * The replacement may itself have been edited or removed since.
+     */
+    public Person getReplacement(Person person) {
+        return personReplacements.get(person);
+    }
+
+    /**
+     * Returns the appointment that replaced {@code appointment} when it was edited, or null if it was not edited.
+     * The replacement may itself have been edited or removed since.
+     */
+    public Appointment getReplacement(Appointment appointment) {
+        return appointmentReplacements.get(appointment);
+    }
+
+    /**
+     * Returns the changes made by applying these changes and then {@code later}.
+     * Neither this nor {@code later} is modified.
+     */
+    public AddressBookChanges mergedWith(AddressBookChanges later) {
+        requireNonNull(later);
+        AddressBookChanges merged = new AddressBookChanges();
+        merged.replay(this);
+        merged.replay(later);
+        return merged;
+    }
+
+    /**
+     * Returns these changes with only the appointments that match {@code predicate}, and every change to the persons.
+     * An appointment replaced by one that does not match is kept as removed, but not as replaced.
+     * This takes time proportional to the number of changes, not the size of the address book.
+     */
+    public AddressBookChanges withAppointmentsMatching(Predicate<Appointment> predicate) {
+        requireNonNull(predicate);
+        AddressBookChanges filtered = new AddressBookChanges();
+        filtered.isReset = isReset;
+        filtered.sequence = sequence;
+        filtered.addedPersons.putAll(addedPersons);
+        filtered.removedPersons.putAll(removedPersons);
+        filtered.personReplacements.putAll(personReplacements);
+        putMatching(addedAppointments, filtered.addedAppointments, predicate);
+        putMatching(removedAppointments, filtered.removedAppointments, predicate);
+        putMatching(loadedAppointments, filtered.loadedAppointments, predicate);
+        appointmentReplacements.forEach((appointment, replacement) -> {
+            if (predicate.test(appointment) && predicate.test(replacement)) {
+                filtered.appointmentReplacements.put(appointment, replacement);
+            }
+        });
+        return filtered;
+    }
+
+    private static <T> void putMatching(Map<T, Long> source, Map<T, Long> target, Predicate<T> predicate) {
+        source.forEach((record, seq) -> {
+            if (predicate.test(record)) {
+                target.put(record, seq);
+            }
+        });
+    }
+
+    /**
+     * Records the changes in {@code changes} on top of these changes, in the order they were originally recorded.
+     */
+    private void replay(AddressBookChanges changes) {
+        if (changes.isReset) {
+            recordReset();
+            return;
+        }
+
+        // Every change is recorded under a distinct sequence number, so sorting by it restores the original order.
+        NavigableMap<Long, Runnable> records = new TreeMap<>();
+        changes.addedPersons.forEach((person, seq) -> records.put(seq, () -> recordPersonAdded(person)));
+        changes.removedPersons.forEach((person, seq) -> records.put(seq, () -> recordPersonRemoved(person)));
+        changes.addedAppointments.forEach((appointment, seq) ->
+                records.put(seq, () -> recordAppointmentAdded(appointment)));
+        changes.removedAppointments.forEach((appointment, seq) ->
+                records.put(seq, () -> recordAppointmentRemoved(appointment)));
+        changes.loadedAppointments.forEach((appointment, seq) ->
+                records.put(seq, () -> recordAppointmentLoaded(appointment)));
+        records.values().forEach(Runnable::run);
+        personReplacements.putAll(changes.personReplacements);
+        appointmentReplacements.putAll(changes.appointmentReplacements);
+    }
+
+    void recordReset() {
+        addedPersons.clear();
+        removedPersons.clear();
+        addedAppointments.clear();
+        removedAppointments.clear();
+        loadedAppointments.clear();
+        personReplacements.clear();
+        appointmentReplacements.clear();
+        isReset = true;
+    }
+
+    void recordPersonAdded(Person person) {
+        if (!isReset) {
+            addedPersons.put(person, sequence++);
+        }
+    }
+
+    /**
+     * Records that {@code person} was removed. A person is recorded as removed even if it was only added since the
+     * last save, so that storage never has to tell the two cases apart.
+     */
+    void recordPersonRemoved(Person person) {
+        if (!isReset) {
+            addedPersons.remove(person);
+            removedPersons.putIfAbsent(person, sequence++);
+        }
+    }
+
+    /**
+     * Records that {@code person} was edited into {@code replacement}.
+     */
+    void recordPersonReplaced(Person person, Person replacement) {
+        recordPersonRemoved(person);
+        recordPersonAdded(replacement);
+        if (!isReset) {
+            personReplacements.put(person, replacement);
+        }
+    }
+
+    void recordAppointmentAdded(Appointment appointment) {
+        if (!isReset) {
+            addedAppointments.put(appointment, sequence++);
+        }
+    }
+
+    /**
+     * Records that {@code appointment} was loaded from storage, where it is already saved.
+     */
+    void recordAppointmentLoaded(Appointment appointment) {
+        if (!isReset) {
+            loadedAppointments.put(appointment, sequence++);
+        }
+    }
+
+    /**
+     * Records that {@code appointment} was removed.
+     */
+    void recordAppointmentRemoved(Appointment appointment) {
+        if (!isReset) {
+            addedAppointments.remove(appointment);
+            removedAppointments.putIfAbsent(appointment, sequence++);
+        }
+    }
+
+    /**
+     * Records that {@code appointment} was edited into {@code replacement}.
+     */
+    void recordAppointmentReplaced(Appointment appointment, Appointment replacement) {
+        recordAppointmentRemoved(appointment);
+        recordAppointmentAdded(replacement);
+        if (!isReset) {
+            appointmentReplacements.put(appointment, replacement);
+        }
+    }
+
+    private static <T> List<T> inRecordedOrder(Map<T, Long> changes) {
+        List<T> ordered = new ArrayList<>(changes.keySet());
+        ordered.sort((first, second) -> Long.compare(changes.get(first), changes.get(second)));
+        return ordered;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isReset", isReset)
+                .add("addedPersons", addedPersons.size())
+                .add("removedPersons", removedPersons.size())
+                .add("addedAppointments", addedAppointments.size())
+                .add("removedAppointments", removedAppointments.size())
+                .add("loadedAppointments", loadedAppointments.size())
+                .toString();
+    }
+}
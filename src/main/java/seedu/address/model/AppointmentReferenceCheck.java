@@ -0,0 +1,98 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Type;
+
+/**
+ * Checks that every appointment in an address book refers to a doctor and a patient in the same address book.
+ *
+ * The NRICs of all doctors and of all patients are collected into hash sets first, so the whole address book is
+ * checked in a single pass over its persons and a single pass over its appointments.
+ * Appointments that fail the check are dangling: they are set aside rather than discarding the whole address book.
+ */
+public class AppointmentReferenceCheck {
+
+    public static final String MESSAGE_MISSING_DOCTOR = "Appointment %1$s refers to doctor %2$s, "
+            + "who is not a doctor in the address book.";
+    public static final String MESSAGE_MISSING_PATIENT = "Appointment %1$s refers to patient %2$s, "
+            + "who is not a patient in the address book.";
+
+    private final ReadOnlyAddressBook addressBook;
+    private final List<Appointment> validAppointments = new ArrayList<>();
+    private final List<Appointment> danglingAppointments = new ArrayList<>();
+    private final List<String> problems = new ArrayList<>();
+
+    /**
+     * Checks every appointment in {@code addressBook}.
+     */
+    public AppointmentReferenceCheck(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+
+        Set<Nric> doctorNrics = new HashSet<>();
+        Set<Nric> patientNrics = new HashSet<>();
+        for (Person person : addressBook.getPersonList()) {
+            (person.getType() == Type.DOCTOR ? doctorNrics : patientNrics).add(person.getNric());
+        }
+
+        for (Appointment appointment : addressBook.getAppointmentList()) {
+            boolean isDangling = false;
+            if (!doctorNrics.contains(appointment.getDoctorNric())) {
+                problems.add(String.format(MESSAGE_MISSING_DOCTOR, appointment.getAppointmentId(),
+                        appointment.getDoctorNric()));
+                isDangling = true;
+            }
+            if (!patientNrics.contains(appointment.getPatientNric())) {
+                problems.add(String.format(MESSAGE_MISSING_PATIENT, appointment.getAppointmentId(),
+                        appointment.getPatientNric()));
+                isDangling = true;
+            }
+            (isDangling ? danglingAppointments : validAppointments).add(appointment);
+        }
+    }
+
+    /**
+     * Returns true if every appointment refers to a doctor and a patient in the address book.
+     */
+    public boolean isPassed() {
+        return danglingAppointments.isEmpty();
+    }
+
+    /**
+     * Returns the appointments that refer to a missing doctor or patient, in address book order.
+     */
+    public List<Appointment> getDanglingAppointments() {
+        return Collections.unmodifiableList(danglingAppointments);
+    }
+
+    /**
+     * Returns a description of every dangling reference found, in address book order.
+     */
+    public List<String> getProblems() {
+        return Collections.unmodifiableList(problems);
+    }
+
+    /**
+     * Returns the checked address book without its dangling appointments.
+     * The address book itself is returned if it has none.
+     */
+    public ReadOnlyAddressBook getValidAddressBook() {
+        if (isPassed()) {
+            return addressBook;
+        }
+        AddressBook validAddressBook = new AddressBook();
+        validAddressBook.setPersons(addressBook.getPersonList());
+        validAddressBook.setAppointmentsExistingBook(validAppointments);
+        return validAddressBook;
+    }
+}
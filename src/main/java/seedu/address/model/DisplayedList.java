@@ -0,0 +1,157 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * The list of persons or appointments that is shown in the UI. It shows either a filtered view of a whole list, or
+ * the results of a search that were found through an index. Showing results only takes time proportional to the
+ * number of results, as no element of the whole list is tested.
+ *
+ * While results are shown, an element removed from the whole list is removed from the results as well, and an
+ * element replaced in its position in the whole list, such as an edited person, is replaced in the results.
+ * Elements added to the whole list are not shown until the filtered view is shown again.
+ *
+ * @param <T> the type of the elements
+ */
+class DisplayedList<T> extends ObservableListBase<T> {
+
+    private final ObservableList<T> filtered;
+    // The results shown instead of the filtered view, or null if the filtered view is shown
+    private List<T> results = null;
+
+    /**
+     * Creates a list that shows {@code filtered}, a filtered view of {@code all}, until results are shown instead.
+     */
+    DisplayedList(ObservableList<? extends T> all, ObservableList<T> filtered) {
+        requireNonNull(all);
+        requireNonNull(filtered);
+        this.filtered = filtered;
+        filtered.addListener(this::filteredChanged);
+        all.addListener(this::allChanged);
+    }
+
+    @Override
+    public T get(int index) {
+        return results == null ? filtered.get(index) : results.get(index);
+    }
+
+    @Override
+    public int size() {
+        return results == null ? filtered.size() : results.size();
+    }
+
+    /**
+     * Shows the filtered view of the whole list again, if results are shown.
+     */
+    void showFiltered() {
+        if (results == null) {
+            return;
+        }
+
+        List<T> removed = results;
+        results = null;
+        beginChange();
+        nextReplace(0, filtered.size(), removed);
+        endChange();
+    }
+
+    /**
+     * Shows {@code newResults}, in the given order, instead of the filtered view or the results shown so far.
+     */
+    void showResults(List<? extends T> newResults) {
+        requireNonNull(newResults);
+        // The filtered view is not changed by showing results, so it can be reported as removed without a copy
+        List<T> removed = results == null ? filtered : results;
+        results = new ArrayList<>(newResults);
+        beginChange();
+        nextReplace(0, results.size(), removed);
+        endChange();
+    }
+
+    /**
+     * Reports the changes of the filtered view, if it is shown.
+     */
+    private void filteredChanged(ListChangeListener.Change<? extends T> change) {
+        if (results != null) {
+            return;
+        }
+
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else if (change.wasReplaced()) {
+                nextReplace(change.getFrom(), change.getTo(), change.getRemoved());
+            } else if (change.wasRemoved()) {
+                nextRemove(change.getFrom(), change.getRemoved());
+            } else if (change.wasAdded()) {
+                nextAdd(change.getFrom(), change.getTo());
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Removes the elements that were removed from the whole list from the results, if they are shown, and replaces
+     * those that were replaced in their position. This takes time proportional to the number of results and the
+     * size of the change.
+     */
+    private void allChanged(ListChangeListener.Change<? extends T> change) {
+        if (results == null) {
+            return;
+        }
+
+        // Each removed element, mapped to the element that took its position, or to null if none did
+        Map<T, T> replacements = new IdentityHashMap<>();
+        Set<T> added = Collections.newSetFromMap(new IdentityHashMap<>());
+        while (change.next()) {
+            List<? extends T> addedInPlace = change.wasAdded() ? change.getAddedSubList() : Collections.emptyList();
+            added.addAll(addedInPlace);
+            List<? extends T> removed = change.getRemoved();
+            boolean isReplacedInPlace = removed.size() == addedInPlace.size();
+            for (int i = 0; i < removed.size(); i++) {
+                replacements.put(removed.get(i), isReplacedInPlace ? addedInPlace.get(i) : null);
+            }
+        }
+        // An element that was only moved is still in the whole list
+        replacements.entrySet().removeIf(entry -> entry.getValue() == null && added.contains(entry.getKey()));
+        if (replacements.isEmpty()) {
+            return;
+        }
+
+        beginChange();
+        int kept = 0;
+        for (int i = 0; i < results.size(); i++) {
+            T result = results.get(i);
+            if (!replacements.containsKey(result)) {
+                results.set(kept++, result);
+            } else if (replacements.get(result) == null) {
+                nextRemove(kept, result);
+            } else {
+                results.set(kept, replacements.get(result));
+                nextSet(kept++, result);
+            }
+        }
+        results.subList(kept, results.size()).clear();
+        endChange();
+    }
+}
@@ -1,11 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDateTime;
+import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 
 /**
@@ -54,6 +61,16 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the changes made to the address book since they were last marked as saved.
+     */
+    AddressBookChanges getAddressBookChanges();
+
+    /**
+     * Marks the changes made to the address book so far as saved.
+     */
+    void markAddressBookChangesSaved();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -64,6 +81,57 @@ public interface Model {
      */
     boolean hasAppointment(Appointment appointment);
 
+    /**
+     * Returns true if {@code appointment} is an archived past appointment, which cannot be edited or deleted.
+     */
+    boolean isArchivedAppointment(Appointment appointment);
+
+    /**
+     * Returns true if {@code person} is the doctor or patient of an archived past appointment.
+     * Such a person cannot be deleted or have their NRIC changed, as their archived appointments would be left behind.
+     */
+    boolean hasArchivedAppointments(Person person);
+
+    /**
+     * Returns the appointment in the address book with the id {@code appointmentId}, if there is one.
+     * A past appointment that has not been loaded yet is loaded.
+     */
+    Optional<Appointment> getAppointmentById(AppointmentId appointmentId);
+
+    /**
+     * Returns the persons, in the order of the address book, whose NRIC, name, date of birth or phone number may
+     * contain any of {@code keywords}, ignoring case, found without examining the fields of the other persons.
+     * They are meant to be checked by a predicate that examines their fields.
+     */
+    List<Person> getPersonKeywordCandidates(List<String> keywords);
+
+    /**
+     * Returns the persons with any of {@code words} as a word of their name, ignoring case, in the order of the
+     * address book, found through an index of the words of all names.
+     */
+    List<Person> getPersonNameWordCandidates(List<String> words);
+
+    /**
+     * Returns the persons with a word of their name within a few typos of any of {@code words}, ignoring case,
+     * in the order of the address book, found through a BK-tree of the words of all names.
+     *
+     * @see seedu.address.model.person.NameNearKeywordsPredicate#getMaxEditDistance(String)
+     */
+    List<Person> getPersonNameWordNearCandidates(List<String> words);
+
+    /**
+     * Returns the persons with a word of their name that sounds like any of {@code words}, in the order of the
+     * address book, found through an index of the Soundex codes of the words of all names.
+     */
+    List<Person> getPersonNameSoundCandidates(List<String> words);
+
+    /**
+     * Returns up to {@code limit} persons whose NRIC, or a word of whose name, starts with {@code prefix},
+     * ignoring case. Unlike the other methods, this can be called from a thread other than the one
+     * that changes the address book.
+     */
+    List<Person> getPersonsWithPrefix(String prefix, int limit);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -113,8 +181,48 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and orders the
+     * filtered persons by {@code comparator}. Persons that compare equal stay in the order of the address book.
+     * The order is reset by {@link #updateFilteredPersonList(Predicate)}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
+    /**
+     * Shows the persons of {@code candidates} that satisfy {@code predicate} in the filtered person list, in the
+     * order of {@code candidates}. Only the candidates are tested, rather than every person in the address book.
+     * The whole address book is filtered again by {@link #updateFilteredPersonList(Predicate)}.
+     * @throws NullPointerException if {@code candidates} or {@code predicate} is null.
+     */
+    void updateFilteredPersonList(List<Person> candidates, Predicate<Person> predicate);
+
+    /**
+     * Shows the persons of {@code candidates} that satisfy {@code predicate} in the filtered person list, ordered by
+     * {@code comparator}. Persons that compare equal stay in the order of {@code candidates}.
+     * @throws NullPointerException if any argument is null.
+     */
+    void updateFilteredPersonList(List<Person> candidates, Predicate<Person> predicate,
+            Comparator<Person> comparator);
+
     boolean isValidAppointment(Appointment toAdd);
 
+    /**
+     * Returns the appointments whose doctor has the NRIC {@code doctorNric}.
+     */
+    List<Appointment> getAppointmentsByDoctorNric(Nric doctorNric);
+
+    /**
+     * Returns the appointments whose patient has the NRIC {@code patientNric}.
+     */
+    List<Appointment> getAppointmentsByPatientNric(Nric patientNric);
+
+    /**
+     * Returns the appointments scheduled between {@code from} and {@code to}, both inclusive,
+     * in chronological order.
+     */
+    List<Appointment> getAppointmentsBetween(AppointmentDateTime from, AppointmentDateTime to);
+
     /** Returns an unmodifiable view of the appointment list */
 
     ObservableList<Appointment> getFilteredAppointmentList();
@@ -124,4 +232,12 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredAppointmentList(Predicate<Appointment> predicate);
+
+    /**
+     * Shows exactly {@code appointments} in the filtered appointment list, in the order of the address book, without
+     * testing every appointment in the address book. Appointments that are not in the address book are left out.
+     * The whole address book is filtered again by {@link #updateFilteredAppointmentList(Predicate)}.
+     * @throws NullPointerException if {@code appointments} is null.
+     */
+    void updateFilteredAppointmentList(Collection<Appointment> appointments);
 }
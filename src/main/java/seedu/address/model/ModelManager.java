@@ -4,14 +4,22 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDateTime;
+import seedu.address.model.appointment.AppointmentId;
 import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Type;
@@ -26,20 +34,37 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Appointment> filteredAppointments;
+    private final DisplayedList<Person> displayedPersons;
+    private final DisplayedList<Appointment> displayedAppointments;
+    private final PastAppointmentLoader pastAppointmentLoader;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, userPrefs, PastAppointmentLoader.NONE);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, whose past appointments are loaded by
+     * {@code pastAppointmentLoader} when a query reaches into them.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs,
+                        PastAppointmentLoader pastAppointmentLoader) {
+        requireAllNonNull(addressBook, userPrefs, pastAppointmentLoader);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         filteredAppointments = new FilteredList<>(this.addressBook.getAppointmentList());
+        displayedPersons = new DisplayedList<>(this.addressBook.getPersonList(), sortedPersons);
+        displayedAppointments = new DisplayedList<>(this.addressBook.getAppointmentList(), filteredAppointments);
+        this.pastAppointmentLoader = pastAppointmentLoader;
     }
 
     public ModelManager() {
@@ -85,7 +110,11 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        // Results found in the old data are not looked up again in the new data
+        displayedPersons.showFiltered();
+        displayedAppointments.showFiltered();
         this.addressBook.resetData(addressBook);
+        pastAppointmentLoader.discardUnloadedMonths();
     }
 
     @Override
@@ -93,14 +122,55 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBookChanges getAddressBookChanges() {
+        return addressBook.getChanges();
+    }
+
+    @Override
+    public void markAddressBookChangesSaved() {
+        addressBook.markChangesSaved();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public List<Person> getPersonKeywordCandidates(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getPersonKeywordCandidates(keywords);
+    }
+
+    @Override
+    public List<Person> getPersonNameWordCandidates(List<String> words) {
+        requireNonNull(words);
+        return addressBook.getPersonNameWordCandidates(words);
+    }
+
+    @Override
+    public List<Person> getPersonNameWordNearCandidates(List<String> words) {
+        requireNonNull(words);
+        return addressBook.getPersonNameWordNearCandidates(words);
+    }
+
+    @Override
+    public List<Person> getPersonNameSoundCandidates(List<String> words) {
+        requireNonNull(words);
+        return addressBook.getPersonNameSoundCandidates(words);
+    }
+
+    @Override
+    public List<Person> getPersonsWithPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return addressBook.getPersonsWithPrefix(prefix, limit);
+    }
+
     @Override
     public void deletePerson(Person target) {
+        loadPastAppointmentsOf(target);
         addressBook.removePerson(target);
     }
 
@@ -116,6 +186,30 @@ public class ModelManager implements Model {
         return addressBook.hasAppointment(appointment);
     }
 
+    @Override
+    public boolean isArchivedAppointment(Appointment appointment) {
+        requireNonNull(appointment);
+        return pastAppointmentLoader.isArchived(appointment);
+    }
+
+    @Override
+    public boolean hasArchivedAppointments(Person person) {
+        requireNonNull(person);
+        return getAppointmentsByDoctorNric(person.getNric()).stream().anyMatch(this::isArchivedAppointment)
+                || getAppointmentsByPatientNric(person.getNric()).stream().anyMatch(this::isArchivedAppointment);
+    }
+
+    @Override
+    public Optional<Appointment> getAppointmentById(AppointmentId appointmentId) {
+        requireNonNull(appointmentId);
+        Optional<Appointment> appointment = addressBook.getAppointmentById(appointmentId);
+        if (appointment.isPresent()) {
+            return appointment;
+        }
+        addLoadedAppointments(pastAppointmentLoader.loadMonthWithId(appointmentId));
+        return addressBook.getAppointmentById(appointmentId);
+    }
+
     @Override
     public void deleteAppointment(Appointment appointment) {
         addressBook.deleteAppointment(appointment);
@@ -131,6 +225,9 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
+        if (!target.getNric().equals(editedPerson.getNric())) {
+            loadPastAppointmentsOf(target);
+        }
         addressBook.setPerson(target, editedPerson);
     }
 
@@ -140,6 +237,48 @@ public class ModelManager implements Model {
         addressBook.setAppointment(target, editedAppointment);
     }
 
+    @Override
+    public List<Appointment> getAppointmentsByDoctorNric(Nric doctorNric) {
+        requireNonNull(doctorNric);
+        addLoadedAppointments(pastAppointmentLoader.loadMonthsWithDoctor(doctorNric));
+        return addressBook.getAppointmentsByDoctorNric(doctorNric);
+    }
+
+    @Override
+    public List<Appointment> getAppointmentsByPatientNric(Nric patientNric) {
+        requireNonNull(patientNric);
+        addLoadedAppointments(pastAppointmentLoader.loadMonthsWithPatient(patientNric));
+        return addressBook.getAppointmentsByPatientNric(patientNric);
+    }
+
+    @Override
+    public List<Appointment> getAppointmentsBetween(AppointmentDateTime from, AppointmentDateTime to) {
+        requireAllNonNull(from, to);
+        addLoadedAppointments(pastAppointmentLoader.loadMonthsBetween(from, to));
+        return addressBook.getAppointmentsBetween(from, to);
+    }
+
+    /**
+     * Loads the past appointments of {@code person}, so that removing the person or changing their NRIC reaches
+     * their whole history rather than only the appointments already in memory.
+     */
+    private void loadPastAppointmentsOf(Person person) {
+        addLoadedAppointments(pastAppointmentLoader.loadMonthsWithDoctor(person.getNric()));
+        addLoadedAppointments(pastAppointmentLoader.loadMonthsWithPatient(person.getNric()));
+    }
+
+    /**
+     * Adds past appointments loaded on demand to the address book, leaving the filters as they are.
+     * They are recorded as loaded rather than as changes, so a query alone does not cause a save.
+     */
+    private void addLoadedAppointments(List<Appointment> loadedAppointments) {
+        for (Appointment appointment : loadedAppointments) {
+            if (!addressBook.hasAppointment(appointment)) {
+                addressBook.addLoadedAppointment(appointment);
+            }
+        }
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -148,24 +287,55 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return displayedPersons;
     }
 
     @Override
     public ObservableList<Appointment> getFilteredAppointmentList() {
-        return filteredAppointments;
+        return displayedAppointments;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(null);
+        displayedPersons.showFiltered();
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(comparator);
+        displayedPersons.showFiltered();
+    }
+
+    @Override
+    public void updateFilteredPersonList(List<Person> candidates, Predicate<Person> predicate) {
+        requireAllNonNull(candidates, predicate);
+        displayedPersons.showResults(candidates.stream().filter(predicate).collect(Collectors.toList()));
+    }
+
+    @Override
+    public void updateFilteredPersonList(List<Person> candidates, Predicate<Person> predicate,
+            Comparator<Person> comparator) {
+        requireAllNonNull(candidates, predicate, comparator);
+        displayedPersons.showResults(candidates.stream().filter(predicate).sorted(comparator)
+                .collect(Collectors.toList()));
     }
 
     @Override
     public void updateFilteredAppointmentList(Predicate<Appointment> predicate) {
         requireNonNull(predicate);
         filteredAppointments.setPredicate(predicate);
+        displayedAppointments.showFiltered();
+    }
+
+    @Override
+    public void updateFilteredAppointmentList(Collection<Appointment> appointments) {
+        requireNonNull(appointments);
+        displayedAppointments.showResults(addressBook.getAppointmentsInListOrder(appointments));
     }
 
     @Override
@@ -182,7 +352,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && displayedPersons.equals(otherModelManager.displayedPersons);
     }
 
     /**
@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDateTime;
+import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.person.Nric;
+
+/**
+ * Loads past appointments that were left out of the address book when it was read, a month at a time.
+ *
+ * Each method loads every month that may hold a matching appointment and has not been loaded yet, and returns all
+ * the appointments in those months. A month is returned at most once, so the caller is expected to add the returned
+ * appointments to its address book. Appointments loaded from archived months are read-only, and must not be edited
+ * or deleted.
+ */
+public interface PastAppointmentLoader {
+
+    /** A {@code PastAppointmentLoader} for address books that are always read in full. */
+    PastAppointmentLoader NONE = new PastAppointmentLoader() {
+        @Override
+        public List<Appointment> loadMonthsWithDoctor(Nric doctorNric) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<Appointment> loadMonthsWithPatient(Nric patientNric) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<Appointment> loadMonthsBetween(AppointmentDateTime from, AppointmentDateTime to) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<Appointment> loadMonthWithId(AppointmentId appointmentId) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isArchived(Appointment appointment) {
+            return false;
+        }
+
+        @Override
+        public void discardUnloadedMonths() {}
+    };
+
+    /**
+     * Loads the months with an appointment whose doctor has the NRIC {@code doctorNric}.
+     */
+    List<Appointment> loadMonthsWithDoctor(Nric doctorNric);
+
+    /**
+     * Loads the months with an appointment whose patient has the NRIC {@code patientNric}.
+     */
+    List<Appointment> loadMonthsWithPatient(Nric patientNric);
+
+    /**
+     * Loads the months that overlap the period between {@code from} and {@code to}, both inclusive.
+     */
+    List<Appointment> loadMonthsBetween(AppointmentDateTime from, AppointmentDateTime to);
+
+    /**
+     * Loads the month with the appointment whose id is {@code appointmentId}. The index does not hold ids, so the
+     * months not loaded yet are read in turn, newest first, until it is found.
+     */
+    List<Appointment> loadMonthWithId(AppointmentId appointmentId);
+
+    /**
+     * Returns true if {@code appointment} was loaded from an archived month, which cannot be changed.
+     */
+    boolean isArchived(Appointment appointment);
+
+    /**
+     * Stops loading the months not loaded so far, as the address book they belonged to has been replaced.
+     */
+    void discardUnloadedMonths();
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,12 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    AddressBookFormat getAddressBookFormat();
+
+    boolean isPastAppointmentsPartitioned();
+
+    int getArchiveHorizonMonths();
+
+    boolean isAppointmentColumnsOffHeap();
+
 }
@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -15,6 +16,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private boolean isPastAppointmentsPartitioned = false;
+    private int archiveHorizonMonths = 0;
+    private boolean isAppointmentColumnsOffHeap = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +41,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setPastAppointmentsPartitioned(newUserPrefs.isPastAppointmentsPartitioned());
+        setArchiveHorizonMonths(newUserPrefs.getArchiveHorizonMonths());
+        setAppointmentColumnsOffHeap(newUserPrefs.isAppointmentColumnsOffHeap());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +65,39 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public boolean isPastAppointmentsPartitioned() {
+        return isPastAppointmentsPartitioned;
+    }
+
+    public void setPastAppointmentsPartitioned(boolean isPastAppointmentsPartitioned) {
+        this.isPastAppointmentsPartitioned = isPastAppointmentsPartitioned;
+    }
+
+    public int getArchiveHorizonMonths() {
+        return archiveHorizonMonths;
+    }
+
+    public void setArchiveHorizonMonths(int archiveHorizonMonths) {
+        this.archiveHorizonMonths = archiveHorizonMonths;
+    }
+
+    public boolean isAppointmentColumnsOffHeap() {
+        return isAppointmentColumnsOffHeap;
+    }
+
+    public void setAppointmentColumnsOffHeap(boolean isAppointmentColumnsOffHeap) {
+        this.isAppointmentColumnsOffHeap = isAppointmentColumnsOffHeap;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +111,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookFormat == otherUserPrefs.addressBookFormat
+                && isPastAppointmentsPartitioned == otherUserPrefs.isPastAppointmentsPartitioned
+                && archiveHorizonMonths == otherUserPrefs.archiveHorizonMonths
+                && isAppointmentColumnsOffHeap == otherUserPrefs.isAppointmentColumnsOffHeap;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, isPastAppointmentsPartitioned,
+                archiveHorizonMonths, isAppointmentColumnsOffHeap);
     }
 
     @Override
@@ -82,6 +129,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nPast appointments partitioned by month : " + isPastAppointmentsPartitioned);
+        sb.append("\nArchive horizon in months : " + archiveHorizonMonths);
+        sb.append("\nAppointment columns off heap : " + isAppointmentColumnsOffHeap);
         return sb.toString();
     }
 
@@ -13,17 +13,18 @@ import seedu.address.model.person.Person;
 
 /**
  * Appointment class that describes an appointment
+ * Appointments are immutable, so that they can be saved on another thread while the address book keeps changing.
  */
 public class Appointment {
 
-    private static final String MESSAGE_CONSTRAINTS_INVALID_DATE =
+    public static final String MESSAGE_CONSTRAINTS_INVALID_DATE =
             "Appointment should be made with a date today onwards";
 
     // The doctor in charge of the appointment
-    private Nric doctorNric;
+    private final Nric doctorNric;
 
     // The patient benefiting from the appointment
-    private Nric patientNric;
+    private final Nric patientNric;
 
     // The date of the appointment
     private final AppointmentDateTime appointmentDateTime;
@@ -83,12 +84,23 @@ public class Appointment {
             Nric doctorNric, Nric patientNric,
             AppointmentDateTime appointmentDateTime,
             AppointmentId appointmentId, Boolean isInitialised) throws ParseException {
-        requireAllNonNull(doctorNric, patientNric, appointmentDateTime);
+        requireAllNonNull(doctorNric, patientNric, appointmentDateTime, appointmentId);
         this.doctorNric = doctorNric;
         this.patientNric = patientNric;
         this.appointmentDateTime = appointmentDateTime;
-        this.appointmentId = new AppointmentId();
+        this.appointmentId = appointmentId;
+    }
+    /**
+     * Constructs a copy of {@code original} with the given doctor and patient. The date is not checked, as the
+     * original may be in the past by now.
+     */
+    private Appointment(Appointment original, Nric doctorNric, Nric patientNric) {
+        this.doctorNric = doctorNric;
+        this.patientNric = patientNric;
+        this.appointmentDateTime = original.appointmentDateTime;
+        this.appointmentId = original.appointmentId;
     }
+
     /**
      * Checks if appointment is valid by comparing appointment date against current date.
      * A valid new appointment can only be in the future, not the past.
@@ -97,6 +109,17 @@ public class Appointment {
      * @return boolean if appointment is valid or not
      */
     public boolean isValidAppointment(AppointmentDateTime appointmentDate) {
+        return isValidNewDateTime(appointmentDate);
+    }
+
+    /**
+     * Checks if a new appointment can be made at {@code appointmentDate}, which is only the case if it is not in the
+     * past. This lets the date of a new appointment be checked before an id is reserved for it.
+     *
+     * @param appointmentDate Date to check validity of
+     * @return boolean if appointment is valid or not
+     */
+    public static boolean isValidNewDateTime(AppointmentDateTime appointmentDate) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
         AppointmentDateTime currentDateTime = new AppointmentDateTime(LocalDateTime.now().format(formatter));
         return appointmentDate.compareTo(currentDateTime) > -1;
@@ -110,10 +133,6 @@ public class Appointment {
         return doctorNric;
     }
 
-    public void setDoctorNric(Nric nric) {
-        this.doctorNric = nric;
-    }
-
     /**
      * Gets patient of the appointment
      * @return patient of the appointment
@@ -122,14 +141,20 @@ public class Appointment {
         return patientNric;
     }
 
-    public void setPatientNric(Nric nric) {
-        this.patientNric = nric;
-    }
-
     public AppointmentId getAppointmentId() {
         return this.appointmentId;
     }
 
+    /**
+     * Returns a copy of this appointment, with the same id, in which the NRIC {@code oldNric} of its doctor or
+     * patient is replaced by {@code newNric}.
+     */
+    public Appointment withPersonNric(Nric oldNric, Nric newNric) {
+        requireAllNonNull(oldNric, newNric);
+        return new Appointment(this, doctorNric.equals(oldNric) ? newNric : doctorNric,
+                patientNric.equals(oldNric) ? newNric : patientNric);
+    }
+
     /**
      * Gets date of the appointment
      * @return date of the appointment
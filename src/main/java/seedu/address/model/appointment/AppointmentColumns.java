@@ -0,0 +1,233 @@
+package seedu.address.model.appointment;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Nric;
+
+/**
+ * The appointments of a {@link UniqueAppointmentList}, stored column by column in fixed-width
+ * {@link AppointmentRecords}, which are kept either in primitive arrays or outside the Java heap.
+ *
+ * Each appointment is kept in a slot, which stays the same for as long as the appointment is stored, so indexes can
+ * refer to appointments by slot. The doctor and patient are stored as ordinals into a dictionary of the NRICs seen so
+ * far, the date time as minutes since the epoch, and the id as its number. Appointment times are whole minutes, as
+ * they are always entered as {@code yyyy-MM-dd HH:mm}.
+ *
+ * {@code Appointment} objects are only materialised from the columns when they are asked for, and are held weakly
+ * afterwards. An appointment that is still referenced elsewhere is therefore always returned as the same object,
+ * so that it can be tracked by identity, while appointments that nothing refers to take no space on the heap
+ * beyond their columns.
+ */
+class AppointmentColumns {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Nric, Integer> ordinals = new HashMap<>();
+    private final List<Nric> nrics = new ArrayList<>();
+
+    private final AppointmentRecords records;
+    private View[] views = new View[INITIAL_CAPACITY];
+    private final ReferenceQueue<Appointment> collectedViews = new ReferenceQueue<>();
+
+    // Slots below slotCount that are not in use, as a stack
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeSlotCount = 0;
+    private int slotCount = 0;
+
+    /**
+     * Creates empty columns, whose records are kept outside the Java heap if {@code isOffHeap}.
+     */
+    AppointmentColumns(boolean isOffHeap) {
+        records = AppointmentRecords.create(isOffHeap, INITIAL_CAPACITY);
+    }
+
+    boolean isOffHeap() {
+        return records.isOffHeap();
+    }
+
+    /**
+     * Stores {@code appointment} in a free slot, and returns the slot.
+     * {@code appointment} itself is returned for the slot for as long as it is referenced elsewhere.
+     */
+    int add(Appointment appointment) {
+        int slot;
+        if (freeSlotCount > 0) {
+            slot = freeSlots[--freeSlotCount];
+        } else {
+            ensureCapacity(slotCount + 1);
+            slot = slotCount++;
+        }
+        write(slot, appointment);
+        return slot;
+    }
+
+    /**
+     * Replaces the appointment in {@code slot} with {@code appointment}.
+     */
+    void set(int slot, Appointment appointment) {
+        write(slot, appointment);
+    }
+
+    /**
+     * Frees {@code slot}, so that it can be reused by a later appointment.
+     */
+    void remove(int slot) {
+        views[slot] = null;
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    /**
+     * Frees every slot, and forgets the NRICs seen so far.
+     */
+    void clear() {
+        ordinals.clear();
+        nrics.clear();
+        Arrays.fill(views, 0, slotCount, null);
+        freeSlotCount = 0;
+        slotCount = 0;
+    }
+
+    /**
+     * Returns the appointment in {@code slot}, materialising it from the columns if it is not referenced elsewhere.
+     */
+    Appointment get(int slot) {
+        expungeCollectedViews();
+        View view = views[slot];
+        Appointment appointment = view == null ? null : view.get();
+        if (appointment == null) {
+            appointment = materialise(slot);
+            views[slot] = new View(appointment, slot, collectedViews);
+        }
+        return appointment;
+    }
+
+    int getDoctorOrdinal(int slot) {
+        return records.getDoctorOrdinal(slot);
+    }
+
+    int getPatientOrdinal(int slot) {
+        return records.getPatientOrdinal(slot);
+    }
+
+    long getEpochMinute(int slot) {
+        return records.getEpochMinute(slot);
+    }
+
+    long getId(int slot) {
+        return records.getId(slot);
+    }
+
+    /**
+     * Returns the ordinal of {@code nric}, or -1 if no stored appointment has ever referred to it.
+     */
+    int ordinalOf(Nric nric) {
+        Integer ordinal = ordinals.get(nric);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * Returns true if the appointment in {@code slot} has the same doctor, patient and date time as
+     * {@code appointment}.
+     */
+    boolean isSameAppointment(int slot, Appointment appointment) {
+        return getEpochMinute(slot) == toEpochMinute(appointment.getAppointmentDateTime())
+                && getDoctorOrdinal(slot) == ordinalOf(appointment.getDoctorNric())
+                && getPatientOrdinal(slot) == ordinalOf(appointment.getPatientNric());
+    }
+
+    /**
+     * Returns true if {@code dateTime} has no seconds, so that it can be stored as a number of minutes.
+     */
+    static boolean isWholeMinute(AppointmentDateTime dateTime) {
+        return dateTime.appointmentDateTime.getSecond() == 0 && dateTime.appointmentDateTime.getNano() == 0;
+    }
+
+    /**
+     * Returns the number of minutes from the epoch to {@code dateTime}, rounded down.
+     */
+    static long toEpochMinute(AppointmentDateTime dateTime) {
+        return Math.floorDiv(dateTime.appointmentDateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    /**
+     * Returns the number of minutes from the epoch to {@code dateTime}, rounded up.
+     */
+    static long toEpochMinuteCeiling(AppointmentDateTime dateTime) {
+        return -Math.floorDiv(-dateTime.appointmentDateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private void write(int slot, Appointment appointment) {
+        assert isWholeMinute(appointment.getAppointmentDateTime());
+        records.set(slot, intern(appointment.getDoctorNric()), intern(appointment.getPatientNric()),
+                toEpochMinute(appointment.getAppointmentDateTime()), appointment.getAppointmentId().getNumber());
+        views[slot] = new View(appointment, slot, collectedViews);
+    }
+
+    private Appointment materialise(int slot) {
+        AppointmentDateTime dateTime = new AppointmentDateTime(
+                LocalDateTime.ofEpochSecond(getEpochMinute(slot) * 60, 0, ZoneOffset.UTC));
+        try {
+            return new Appointment(nrics.get(getDoctorOrdinal(slot)), nrics.get(getPatientOrdinal(slot)), dateTime,
+                    new AppointmentId(getId(slot)), true);
+        } catch (ParseException e) {
+            throw new AssertionError("Stored appointments are not validated again", e);
+        }
+    }
+
+    private int intern(Nric nric) {
+        Integer ordinal = ordinals.get(nric);
+        if (ordinal == null) {
+            ordinal = nrics.size();
+            ordinals.put(nric, ordinal);
+            nrics.add(nric);
+        }
+        return ordinal;
+    }
+
+    /**
+     * Drops the views whose appointments have been garbage collected, so that a slot nothing refers to holds no
+     * object at all.
+     */
+    private void expungeCollectedViews() {
+        for (Object collected = collectedViews.poll(); collected != null; collected = collectedViews.poll()) {
+            View view = (View) collected;
+            if (view.slot < slotCount && views[view.slot] == view) {
+                views[view.slot] = null;
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= records.capacity()) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, records.capacity() * 2);
+        records.grow(newCapacity);
+        views = Arrays.copyOf(views, newCapacity);
+    }
+
+    /**
+     * A weak reference to the appointment materialised for a slot.
+     */
+    private static class View extends WeakReference<Appointment> {
+        private final int slot;
+
+        View(Appointment appointment, int slot, ReferenceQueue<Appointment> queue) {
+            super(appointment, queue);
+            this.slot = slot;
+        }
+    }
+}
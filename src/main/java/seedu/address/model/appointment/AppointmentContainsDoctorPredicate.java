@@ -19,6 +19,10 @@ public class AppointmentContainsDoctorPredicate implements Predicate<Appointment
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Appointment appointment) {
         logger.log(Level.INFO, "Testing appointment: " + appointment);
@@ -16,6 +16,10 @@ public class AppointmentContainsPatientPredicate implements Predicate<Appointmen
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Appointment appointment) {
         return keywords.stream()
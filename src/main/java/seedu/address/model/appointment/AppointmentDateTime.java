@@ -10,7 +10,7 @@ import java.time.format.DateTimeParseException;
 /**
  * Class encapsulating an appointment's date and corresponding methods
  */
-public class AppointmentDateTime {
+public class AppointmentDateTime implements Comparable<AppointmentDateTime> {
 
     // Message to output in case constraints are not met
     public static final String MESSAGE_CONSTRAINTS =
@@ -99,6 +99,7 @@ public class AppointmentDateTime {
      * @param compareValue value to compare with current instance
      * @return integer reflecting whether compareValue is greater, less, or equal
      */
+    @Override
     public int compareTo(AppointmentDateTime compareValue) {
         return this.appointmentDateTime.compareTo(compareValue.appointmentDateTime);
     }
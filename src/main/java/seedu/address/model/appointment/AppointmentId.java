@@ -1,11 +1,14 @@
 package seedu.address.model.appointment;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.exceptions.IdsExhaustedException;
 import seedu.address.commons.util.IdUtil;
 
 /**
- * Class encapsulating appointment id and corresponding methods
+ * Class encapsulating appointment id and corresponding methods.
+ * The id is held as a number, so that comparing and hashing ids never creates strings.
  */
 public class AppointmentId {
 
@@ -15,17 +18,19 @@ public class AppointmentId {
     public static final String MESSAGE_CONSTRAINTS =
             "Appointment id should be in the format of aXXXXXXXX.";
 
-    // Variable storing appointment id as a string object
-    public final String appointmentId;
+    // Number of digits after the leading 'a' of an appointment id
+    private static final int DIGITS = 8;
+
+    // Variable storing the digits of the appointment id as a number
+    private final long number;
 
 
     /**
      * Constructs new AppointmentId object by generating an appointment id string in aXXXXXXXX format
+     * @throws IdsExhaustedException if every appointment id has been used
      */
     public AppointmentId() {
-        String apptId = IdUtil.generateNewId(IdUtil.Entities.APPOINTMENT);
-        checkArgument(isValidApptId(apptId), MESSAGE_CONSTRAINTS);
-        this.appointmentId = apptId;
+        this(IdUtil.generateNewId(IdUtil.Entities.APPOINTMENT));
     }
 
     /**
@@ -33,8 +38,16 @@ public class AppointmentId {
      * @param apptId id of the appointment
      */
     public AppointmentId(String apptId) {
+        requireNonNull(apptId);
         checkArgument(isValidApptId(apptId), MESSAGE_CONSTRAINTS);
-        this.appointmentId = apptId;
+        this.number = Long.parseLong(apptId.substring(1));
+    }
+
+    /**
+     * Constructs the AppointmentId with the given number, as stored by {@code AppointmentColumns}.
+     */
+    AppointmentId(long number) {
+        this.number = number;
     }
 
     /**
@@ -47,17 +60,25 @@ public class AppointmentId {
 
     }
 
+    /**
+     * Returns the digits of this appointment id as a number.
+     */
+    long getNumber() {
+        return number;
+    }
+
     /**
      * Returns string version of appointment id for printing
      * @return String stringed appointment date
      */
     @Override
     public String toString() {
-        return appointmentId.toString();
+        String digits = Long.toString(number);
+        return IdUtil.Entities.APPOINTMENT.getLetter() + "0".repeat(DIGITS - digits.length()) + digits;
     }
 
     /**
-     * Checks if input object is practically equal to this AppointmentId object
+     * Checks if input object is an AppointmentId with the same id as this AppointmentId object
      * @param obj input object
      * @return boolean indicating if compared objects are equal
      */
@@ -67,7 +88,12 @@ public class AppointmentId {
             return true;
         }
 
-        return false;
+        // instanceof handles nulls
+        if (!(obj instanceof AppointmentId)) {
+            return false;
+        }
+
+        return number == ((AppointmentId) obj).number;
     }
 
     /**
@@ -76,10 +102,6 @@ public class AppointmentId {
      */
     @Override
     public int hashCode() {
-        String postfix = appointmentId.substring(1, appointmentId.length());
-        Integer prefix = (int) appointmentId.charAt(0);
-        String prefixString = prefix.toString();
-
-        return Integer.valueOf(prefixString + postfix);
+        return Long.hashCode(number);
     }
 }
@@ -0,0 +1,40 @@
+package seedu.address.model.appointment;
+
+/**
+ * The fixed-width record of each slot of an {@link AppointmentColumns}: the ordinals of the doctor and patient NRICs,
+ * the date time in minutes since the epoch, and the number of the id.
+ */
+interface AppointmentRecords {
+
+    /**
+     * Returns empty records for {@code capacity} slots, kept outside the Java heap if {@code isOffHeap}.
+     */
+    static AppointmentRecords create(boolean isOffHeap, int capacity) {
+        return isOffHeap ? new DirectAppointmentRecords(capacity) : new HeapAppointmentRecords(capacity);
+    }
+
+    /**
+     * Returns the number of slots that can be stored without growing.
+     */
+    int capacity();
+
+    /**
+     * Makes room for at least {@code capacity} slots, keeping the records stored so far.
+     */
+    void grow(int capacity);
+
+    /**
+     * Returns true if the records are kept outside the Java heap.
+     */
+    boolean isOffHeap();
+
+    void set(int slot, int doctorOrdinal, int patientOrdinal, long epochMinute, long id);
+
+    int getDoctorOrdinal(int slot);
+
+    int getPatientOrdinal(int slot);
+
+    long getEpochMinute(int slot);
+
+    long getId(int slot);
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.appointment;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Appointment records kept outside the Java heap, in a buffer allocated with {@code ByteBuffer#allocateDirect}.
+ * Each slot is a record of {@value #RECORD_BYTES} bytes, so the garbage collector never has to scan or copy them.
+ */
+class DirectAppointmentRecords implements AppointmentRecords {
+
+    private static final int DOCTOR_OFFSET = 0;
+    private static final int PATIENT_OFFSET = 4;
+    private static final int EPOCH_MINUTE_OFFSET = 8;
+    private static final int ID_OFFSET = 16;
+    private static final int RECORD_BYTES = 24;
+
+    private ByteBuffer records;
+
+    DirectAppointmentRecords(int capacity) {
+        records = allocate(capacity);
+    }
+
+    @Override
+    public int capacity() {
+        return records.capacity() / RECORD_BYTES;
+    }
+
+    @Override
+    public void grow(int capacity) {
+        ByteBuffer grown = allocate(capacity);
+        records.clear();
+        grown.put(records);
+        records = grown;
+    }
+
+    @Override
+    public boolean isOffHeap() {
+        return true;
+    }
+
+    @Override
+    public void set(int slot, int doctorOrdinal, int patientOrdinal, long epochMinute, long id) {
+        int offset = slot * RECORD_BYTES;
+        records.putInt(offset + DOCTOR_OFFSET, doctorOrdinal);
+        records.putInt(offset + PATIENT_OFFSET, patientOrdinal);
+        records.putLong(offset + EPOCH_MINUTE_OFFSET, epochMinute);
+        records.putLong(offset + ID_OFFSET, id);
+    }
+
+    @Override
+    public int getDoctorOrdinal(int slot) {
+        return records.getInt(slot * RECORD_BYTES + DOCTOR_OFFSET);
+    }
+
+    @Override
+    public int getPatientOrdinal(int slot) {
+        return records.getInt(slot * RECORD_BYTES + PATIENT_OFFSET);
+    }
+
+    @Override
+    public long getEpochMinute(int slot) {
+        return records.getLong(slot * RECORD_BYTES + EPOCH_MINUTE_OFFSET);
+    }
+
+    @Override
+    public long getId(int slot) {
+        return records.getLong(slot * RECORD_BYTES + ID_OFFSET);
+    }
+
+    private static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * RECORD_BYTES).order(ByteOrder.nativeOrder());
+    }
+}
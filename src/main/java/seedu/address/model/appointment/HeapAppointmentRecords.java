@@ -0,0 +1,67 @@
+package seedu.address.model.appointment;
+
+import java.util.Arrays;
+
+/**
+ * Appointment records kept in one primitive array on the Java heap for each field.
+ */
+class HeapAppointmentRecords implements AppointmentRecords {
+
+    private int[] doctorOrdinals;
+    private int[] patientOrdinals;
+    private long[] epochMinutes;
+    private long[] ids;
+
+    HeapAppointmentRecords(int capacity) {
+        doctorOrdinals = new int[capacity];
+        patientOrdinals = new int[capacity];
+        epochMinutes = new long[capacity];
+        ids = new long[capacity];
+    }
+
+    @Override
+    public int capacity() {
+        return doctorOrdinals.length;
+    }
+
+    @Override
+    public void grow(int capacity) {
+        doctorOrdinals = Arrays.copyOf(doctorOrdinals, capacity);
+        patientOrdinals = Arrays.copyOf(patientOrdinals, capacity);
+        epochMinutes = Arrays.copyOf(epochMinutes, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+    }
+
+    @Override
+    public boolean isOffHeap() {
+        return false;
+    }
+
+    @Override
+    public void set(int slot, int doctorOrdinal, int patientOrdinal, long epochMinute, long id) {
+        doctorOrdinals[slot] = doctorOrdinal;
+        patientOrdinals[slot] = patientOrdinal;
+        epochMinutes[slot] = epochMinute;
+        ids[slot] = id;
+    }
+
+    @Override
+    public int getDoctorOrdinal(int slot) {
+        return doctorOrdinals[slot];
+    }
+
+    @Override
+    public int getPatientOrdinal(int slot) {
+        return patientOrdinals[slot];
+    }
+
+    @Override
+    public long getEpochMinute(int slot) {
+        return epochMinutes[slot];
+    }
+
+    @Override
+    public long getId(int slot) {
+        return ids[slot];
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.address.model.appointment;
+
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+/**
+ * The slots of an {@link AppointmentColumns}, kept in an array sorted by a key read from the columns.
+ * Slots with equal keys are kept in the order they were added.
+ */
+class SortedSlots {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final IntToLongFunction keyOf;
+    private int[] slots = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Creates an empty index that sorts slots by {@code keyOf}.
+     */
+    SortedSlots(IntToLongFunction keyOf) {
+        this.keyOf = keyOf;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the slot at {@code position} in key order.
+     */
+    int get(int position) {
+        return slots[position];
+    }
+
+    /**
+     * Adds {@code slot} after every slot with a key that is not greater than its key.
+     */
+    void add(int slot) {
+        if (size == slots.length) {
+            slots = Arrays.copyOf(slots, size * 2);
+        }
+        int position = upperBound(keyOf.applyAsLong(slot));
+        System.arraycopy(slots, position, slots, position + 1, size - position);
+        slots[position] = slot;
+        size++;
+    }
+
+    /**
+     * Removes {@code slot}, which must still have the key it was added with.
+     */
+    void remove(int slot) {
+        long key = keyOf.applyAsLong(slot);
+        for (int i = lowerBound(key); i < size && keyOf.applyAsLong(slots[i]) == key; i++) {
+            if (slots[i] == slot) {
+                System.arraycopy(slots, i + 1, slots, i, size - i - 1);
+                size--;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the first {@code count} slots of {@code newSlots}, which are sorted
+     * all at once, keeping slots with equal keys in the given order.
+     */
+    void setAll(int[] newSlots, int count) {
+        slots = Arrays.copyOf(newSlots, Math.max(count, INITIAL_CAPACITY));
+        size = count;
+        int[] buffer = new int[slots.length];
+        for (int width = 1; width < size; width *= 2) {
+            for (int from = 0; from < size; from += 2 * width) {
+                merge(slots, buffer, from, Math.min(from + width, size), Math.min(from + 2 * width, size));
+            }
+            int[] merged = buffer;
+            buffer = slots;
+            slots = merged;
+        }
+    }
+
+    /**
+     * Returns the first position whose slot has a key not less than {@code key}.
+     */
+    int lowerBound(long key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keyOf.applyAsLong(slots[middle]) < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first position whose slot has a key greater than {@code key}.
+     */
+    int upperBound(long key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keyOf.applyAsLong(slots[middle]) <= key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Merges the sorted runs {@code from} to {@code middle} and {@code middle} to {@code to} of {@code source} into
+     * the same positions of {@code target}.
+     */
+    private void merge(int[] source, int[] target, int from, int middle, int to) {
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right == to || left < middle
+                    && keyOf.applyAsLong(source[left]) <= keyOf.applyAsLong(source[right])) {
+                target[i] = source[left++];
+            } else {
+                target[i] = source[right++];
+            }
+        }
+    }
+}
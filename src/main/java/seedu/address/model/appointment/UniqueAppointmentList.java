@@ -3,13 +3,28 @@ package seedu.address.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 
 /**
@@ -17,24 +32,55 @@ import seedu.address.model.person.Person;
  * An appointment is considered unique by comparing using {@code Appointment#isSameAppointment(Appointment)}.
  * As such, adding and updating of appointments uses Appointment#isSameAppointment(Appointment) for equality
  * so as to ensure that the Appointment being added or updated is
- * unique in terms of identity in the UniqueAppointmentList. However, the removal of a person uses
- * Appointment#equals(Object) so as to ensure that the person with exactly the same fields will be removed.
+ * unique in terms of identity in the UniqueAppointmentList. Removing or replacing an appointment likewise acts on
+ * the appointment in the list that is the same appointment as the one given, which need not be the same object.
+ *
+ * The appointments are stored column by column in an {@code AppointmentColumns}, and the list holds only the slot
+ * of each appointment, so an appointment is materialised as an {@code Appointment} only when it is read. The same
+ * appointment is returned as the same object for as long as anything refers to it. The records of the columns can
+ * be kept outside the Java heap, see {@link #setColumnsOffHeap(boolean)}.
+ *
+ * Appointments are additionally indexed by doctor NRIC and by patient NRIC, so that looking up or removing
+ * the appointments of one person costs time proportional to the number of such appointments. A time-ordered
+ * index of slots answers date range queries with a binary search, and an index of slots sorted by id finds an
+ * appointment by its id the same way. The time-ordered index also finds the equivalent of an appointment, as
+ * equivalent appointments are at the same date time.
  *
  * Supports a minimal set of list operations.
  *
  * @see Appointment#isSameAppointment(Appointment)
  */
 public class UniqueAppointmentList implements Iterable<Appointment> {
-    private final ObservableList<Appointment> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Appointment> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private static volatile boolean isColumnsOffHeapForNewLists = false;
+
+    private final AppointmentColumns columns = new AppointmentColumns(isColumnsOffHeapForNewLists);
+    private final InternalList internalList = new InternalList();
+    private final SlotBuckets doctorIndex = new SlotBuckets();
+    private final SlotBuckets patientIndex = new SlotBuckets();
+    private final SortedSlots dateTimeIndex = new SortedSlots(columns::getEpochMinute);
+    private final SortedSlots idIndex = new SortedSlots(columns::getId);
+
+    /**
+     * Sets whether lists created from now on keep the records of their appointment columns outside the Java heap,
+     * in a direct {@code ByteBuffer}. Lists that already exist are not affected.
+     */
+    public static void setColumnsOffHeap(boolean isOffHeap) {
+        isColumnsOffHeapForNewLists = isOffHeap;
+    }
+
+    /**
+     * Returns true if the records of the appointment columns of this list are kept outside the Java heap.
+     */
+    public boolean isColumnsOffHeap() {
+        return columns.isOffHeap();
+    }
 
     /**
      * Returns true if the list contains an equivalent appointment as the given argument.
      */
     public boolean contains(Appointment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAppointment);
+        return find(toCheck) != -1;
     }
 
     /**
@@ -44,8 +90,83 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public List<Appointment> contains(Person person) {
         requireNonNull(person);
-        return internalList.stream()
-                .filter(appointment -> appointment.appointmentContainsPerson(person))
+        int ordinal = columns.ordinalOf(person.getNric());
+        List<Appointment> result = new ArrayList<>();
+        if (ordinal == -1) {
+            return result;
+        }
+
+        doctorIndex.forEach(ordinal, slot -> result.add(columns.get(slot)));
+        patientIndex.forEach(ordinal, slot -> {
+            if (columns.getDoctorOrdinal(slot) != ordinal) {
+                result.add(columns.get(slot));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns an unmodifiable list of the appointments whose doctor has the given NRIC.
+     */
+    public List<Appointment> getAppointmentsByDoctorNric(Nric doctorNric) {
+        requireNonNull(doctorNric);
+        return getAppointmentsIn(doctorIndex, doctorNric);
+    }
+
+    /**
+     * Returns an unmodifiable list of the appointments whose patient has the given NRIC.
+     */
+    public List<Appointment> getAppointmentsByPatientNric(Nric patientNric) {
+        requireNonNull(patientNric);
+        return getAppointmentsIn(patientIndex, patientNric);
+    }
+
+    /**
+     * Returns the appointment with the id {@code appointmentId}, if there is one.
+     * If several appointments have the id, the one that has had it the longest is returned.
+     */
+    public Optional<Appointment> getAppointmentById(AppointmentId appointmentId) {
+        requireNonNull(appointmentId);
+        long number = appointmentId.getNumber();
+        int position = idIndex.lowerBound(number);
+        if (position == idIndex.size() || columns.getId(idIndex.get(position)) != number) {
+            return Optional.empty();
+        }
+        return Optional.of(columns.get(idIndex.get(position)));
+    }
+
+    /**
+     * Returns the appointments scheduled between {@code from} and {@code to}, both inclusive,
+     * in chronological order.
+     */
+    public List<Appointment> getAppointmentsBetween(AppointmentDateTime from, AppointmentDateTime to) {
+        requireAllNonNull(from, to);
+        List<Appointment> result = new ArrayList<>();
+        if (from.compareTo(to) > 0) {
+            return result;
+        }
+
+        int end = dateTimeIndex.upperBound(AppointmentColumns.toEpochMinute(to));
+        for (int i = dateTimeIndex.lowerBound(AppointmentColumns.toEpochMinuteCeiling(from)); i < end; i++) {
+            result.add(columns.get(dateTimeIndex.get(i)));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the appointments in the list that are the same appointments as those in {@code appointments}, each
+     * once and in the order of the list. This takes time proportional to the number of {@code appointments}, rather
+     * than to the size of the list.
+     */
+    public List<Appointment> inListOrder(Collection<Appointment> appointments) {
+        requireAllNonNull(appointments);
+        return appointments.stream()
+                .mapToInt(this::find)
+                .filter(slot -> slot != -1)
+                .distinct()
+                .boxed()
+                .sorted(Comparator.comparingLong(internalList::sequenceOf))
+                .map(columns::get)
                 .collect(Collectors.toList());
     }
 
@@ -55,7 +176,9 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public void add(Appointment toAdd) {
         requireNonNull(toAdd);
-        internalList.add(toAdd);
+        int slot = columns.add(toAdd);
+        addToIndexes(slot);
+        internalList.append(slot);
     }
 
     /**
@@ -63,30 +186,101 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      * {@code target} must exist in the list.
      * The appointment details of {@code editedAppointment} must not be the same as another
      * existing appointment in the list.
+     *
+     * @return the appointment that was replaced.
      */
-    public void setAppointment(Appointment target, Appointment editedAppointment) {
+    public Appointment setAppointment(Appointment target, Appointment editedAppointment) {
         requireAllNonNull(target, editedAppointment);
 
-        int index = internalList.indexOf(target);
+        int slot = find(target);
+        int index = internalList.indexOfSlot(slot);
+        Objects.checkIndex(index, internalList.size());
 
-        internalList.set(index, editedAppointment);
+        Appointment replaced = columns.get(slot);
+        removeFromIndexes(slot);
+        columns.set(slot, editedAppointment);
+        addToIndexes(slot);
+        internalList.replaced(index, replaced);
+        return replaced;
     }
 
     /**
      * Removes the equivalent appointment from the list.
      * The appointment must exist in the list.
+     *
+     * @return the appointment that was removed, or null if there was no equivalent appointment.
      */
-    public void remove(Appointment toRemove) {
+    public Appointment remove(Appointment toRemove) {
         requireNonNull(toRemove);
-        //        if (!internalList.remove(toRemove)) {
-        //            throw new AppointmentNotFoundException();
-        //        }
-        internalList.remove(toRemove);
+        int slot = find(toRemove);
+        if (slot == -1) {
+            return null;
+        }
+
+        Appointment removed = columns.get(slot);
+        removeFromIndexes(slot);
+        internalList.removeAt(internalList.indexOfSlot(slot), removed);
+        columns.remove(slot);
+        return removed;
+    }
+
+    /**
+     * Removes all appointments which involve {@code person}, either as the doctor or the patient.
+     * The affected appointments are located through the NRIC indexes and removed from the list in a single pass.
+     *
+     * @return the appointments that were removed.
+     */
+    public List<Appointment> removeAppointmentsOf(Person person) {
+        requireNonNull(person);
+        List<Appointment> toRemove = contains(person);
+        if (toRemove.isEmpty()) {
+            return toRemove;
+        }
+
+        BitSet slots = slotsOf(columns.ordinalOf(person.getNric()));
+        slots.stream().forEach(this::removeFromIndexes);
+        internalList.removeSlots(slots);
+        slots.stream().forEach(columns::remove);
+        return toRemove;
+    }
+
+    /**
+     * Replaces every appointment that refers to the NRIC {@code oldNric}, either as the doctor or the patient,
+     * with a copy that refers to {@code newNric} instead. Appointments are immutable, so they are never changed in
+     * place. Only the doctor and patient columns of the affected appointments are rewritten.
+     *
+     * @return each appointment that was replaced, mapped to the appointment that replaced it.
+     */
+    public Map<Appointment, Appointment> updatePersonNric(Nric oldNric, Nric newNric) {
+        requireAllNonNull(oldNric, newNric);
+        Map<Appointment, Appointment> replacements = new IdentityHashMap<>();
+        int ordinal = columns.ordinalOf(oldNric);
+        if (ordinal == -1) {
+            return replacements;
+        }
+
+        BitSet slots = slotsOf(ordinal);
+        Map<Integer, Appointment> replacedBySlot = new HashMap<>();
+        slots.stream().forEach(slot -> {
+            Appointment replaced = columns.get(slot);
+            Appointment replacement = replaced.withPersonNric(oldNric, newNric);
+            doctorIndex.remove(columns.getDoctorOrdinal(slot), slot);
+            patientIndex.remove(columns.getPatientOrdinal(slot), slot);
+            columns.set(slot, replacement);
+            doctorIndex.add(columns.getDoctorOrdinal(slot), slot);
+            patientIndex.add(columns.getPatientOrdinal(slot), slot);
+            replacedBySlot.put(slot, replaced);
+            replacements.put(replaced, replacement);
+        });
+        internalList.replacedSlots(replacedBySlot);
+        return replacements;
     }
 
     public void setPersons(UniqueAppointmentList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        if (replacement != this) {
+            internalList.reset(replacement);
+        }
     }
 
     /**
@@ -99,19 +293,19 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
             throw new DuplicateAppointmentException();
         }
 
-        internalList.setAll(appointments);
+        internalList.reset(appointments);
     }
 
     public void setAppointmentsExistingBook(List<Appointment> appointments) {
         requireAllNonNull(appointments);
-        internalList.setAll(appointments);
+        internalList.reset(appointments);
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Appointment> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+        return internalList;
     }
 
     @Override
@@ -144,17 +338,281 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the slot of the appointment in the list that is the same appointment as {@code toFind}, or -1 if
+     * there is none. Only the appointments at the same date time are compared.
+     */
+    private int find(Appointment toFind) {
+        if (!AppointmentColumns.isWholeMinute(toFind.getAppointmentDateTime())) {
+            return -1;
+        }
+
+        long epochMinute = AppointmentColumns.toEpochMinute(toFind.getAppointmentDateTime());
+        for (int i = dateTimeIndex.lowerBound(epochMinute); i < dateTimeIndex.size()
+                && columns.getEpochMinute(dateTimeIndex.get(i)) == epochMinute; i++) {
+            if (columns.isSameAppointment(dateTimeIndex.get(i), toFind)) {
+                return dateTimeIndex.get(i);
+            }
+        }
+        return -1;
+    }
+
+    private List<Appointment> getAppointmentsIn(SlotBuckets index, Nric nric) {
+        List<Appointment> result = new ArrayList<>();
+        index.forEach(columns.ordinalOf(nric), slot -> result.add(columns.get(slot)));
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns the slots of the appointments whose doctor or patient has the NRIC with the given ordinal.
+     */
+    private BitSet slotsOf(int ordinal) {
+        BitSet slots = new BitSet();
+        doctorIndex.forEach(ordinal, slots::set);
+        patientIndex.forEach(ordinal, slots::set);
+        return slots;
+    }
+
     /**
      * Returns true if {@code appointments} contains only unique appointments.
      */
     private boolean appointmentsAreUnique(List<Appointment> appointments) {
-        for (int i = 0; i < appointments.size() - 1; i++) {
-            for (int j = i + 1; j < appointments.size(); j++) {
-                if (appointments.get(i).isSameAppointment(appointments.get(j))) {
-                    return false;
-                }
+        Set<List<Object>> seenKeys = new HashSet<>();
+        for (Appointment appointment : appointments) {
+            if (!seenKeys.add(toIdentityKey(appointment))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Adds the appointment in {@code slot} to the doctor NRIC, patient NRIC, date time and id indexes.
+     */
+    private void addToIndexes(int slot) {
+        doctorIndex.add(columns.getDoctorOrdinal(slot), slot);
+        patientIndex.add(columns.getPatientOrdinal(slot), slot);
+        dateTimeIndex.add(slot);
+        idIndex.add(slot);
+    }
+
+    /**
+     * Removes the appointment in {@code slot} from the doctor NRIC, patient NRIC, date time and id indexes.
+     */
+    private void removeFromIndexes(int slot) {
+        doctorIndex.remove(columns.getDoctorOrdinal(slot), slot);
+        patientIndex.remove(columns.getPatientOrdinal(slot), slot);
+        dateTimeIndex.remove(slot);
+        idIndex.remove(slot);
+    }
+
+    /**
+     * Returns a hashable key that is equal for two appointments exactly when they are the same appointment
+     * as defined by {@code Appointment#isSameAppointment(Appointment)}.
+     */
+    private static List<Object> toIdentityKey(Appointment appointment) {
+        return List.of(appointment.getDoctorNric(), appointment.getPatientNric(),
+                appointment.getAppointmentDateTime());
+    }
+
+    /**
+     * The appointments of this list in order, held as slots of {@code columns}. This is the list that is observed,
+     * so every change to the order of slots, or to the appointment in a slot, is reported to its listeners here.
+     * It cannot be modified through the {@code List} interface.
+     *
+     * Each slot also has a sequence number, which increases along the list, so that appointments found through an
+     * index can be put in the order of the list without looking for their positions.
+     */
+    private class InternalList extends ObservableListBase<Appointment> {
+        private int[] order = new int[16];
+        private int size = 0;
+        private long[] sequences = new long[16];
+        private long nextSequence = 0;
+
+        @Override
+        public Appointment get(int index) {
+            Objects.checkIndex(index, size);
+            return columns.get(order[index]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        long sequenceOf(int slot) {
+            return sequences[slot];
+        }
+
+        /**
+         * Returns the position of {@code slot} in the list, or -1 if it is not in the list.
+         */
+        int indexOfSlot(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (order[i] == slot) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Adds {@code slot} to the end of the list.
+         */
+        void append(int slot) {
+            if (size == order.length) {
+                order = Arrays.copyOf(order, size * 2);
+            }
+            order[size++] = slot;
+            if (slot >= sequences.length) {
+                sequences = Arrays.copyOf(sequences, Math.max(slot + 1, sequences.length * 2));
+            }
+            sequences[slot] = nextSequence++;
+            modCount++;
+            beginChange();
+            nextAdd(size - 1, size);
+            endChange();
+        }
+
+        /**
+         * Reports that the slot at {@code index} now holds a different appointment than {@code replaced}.
+         */
+        void replaced(int index, Appointment replaced) {
+            beginChange();
+            nextSet(index, replaced);
+            endChange();
+        }
+
+        /**
+         * Reports that each slot in {@code replacedBySlot} now holds a different appointment than the one it is
+         * mapped to.
+         */
+        void replacedSlots(Map<Integer, Appointment> replacedBySlot) {
+            beginChange();
+            for (int i = 0; i < size; i++) {
+                Appointment replaced = replacedBySlot.get(order[i]);
+                if (replaced != null) {
+                    nextSet(i, replaced);
+                }
+            }
+            endChange();
+        }
+
+        /**
+         * Removes the slot at {@code index}, which held {@code removed}.
+         */
+        void removeAt(int index, Appointment removed) {
+            System.arraycopy(order, index + 1, order, index, size - index - 1);
+            size--;
+            modCount++;
+            beginChange();
+            nextRemove(index, removed);
+            endChange();
+        }
+
+        /**
+         * Removes every slot in {@code slots} in a single pass over the list. The slots must not have been freed yet.
+         */
+        void removeSlots(BitSet slots) {
+            beginChange();
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (slots.get(order[i])) {
+                    nextRemove(kept, columns.get(order[i]));
+                } else {
+                    order[kept++] = order[i];
+                }
+            }
+            size = kept;
+            modCount++;
+            endChange();
+        }
+
+        /**
+         * Replaces the contents of the list, the columns and the indexes with {@code appointments}.
+         */
+        void reset(Iterable<Appointment> appointments) {
+            List<Appointment> removed = hasListeners() ? new ArrayList<>(this) : Collections.emptyList();
+            columns.clear();
+            int[] slots = new int[Math.max(16, size)];
+            int count = 0;
+            doctorIndex.clear();
+            patientIndex.clear();
+            for (Appointment appointment : appointments) {
+                if (count == slots.length) {
+                    slots = Arrays.copyOf(slots, count * 2);
+                }
+                int slot = columns.add(appointment);
+                slots[count++] = slot;
+                doctorIndex.add(columns.getDoctorOrdinal(slot), slot);
+                patientIndex.add(columns.getPatientOrdinal(slot), slot);
+            }
+            dateTimeIndex.setAll(slots, count);
+            idIndex.setAll(slots, count);
+            order = slots;
+            size = count;
+            sequences = new long[slots.length];
+            for (int i = 0; i < count; i++) {
+                sequences[slots[i]] = i;
+            }
+            nextSequence = count;
+            modCount++;
+            if (!removed.isEmpty() || size > 0) {
+                beginChange();
+                nextReplace(0, size, removed);
+                endChange();
+            }
+        }
+    }
+
+    /**
+     * The slots of the appointments that refer to each NRIC, found by the ordinal of the NRIC.
+     * The slots of each NRIC are kept in the order they were added.
+     */
+    private static class SlotBuckets {
+        private int[][] buckets = new int[0][];
+        private int[] sizes = new int[0];
+
+        void add(int ordinal, int slot) {
+            if (ordinal >= buckets.length) {
+                int capacity = Math.max(ordinal + 1, buckets.length * 2);
+                buckets = Arrays.copyOf(buckets, capacity);
+                sizes = Arrays.copyOf(sizes, capacity);
+            }
+            if (buckets[ordinal] == null) {
+                buckets[ordinal] = new int[4];
+            } else if (sizes[ordinal] == buckets[ordinal].length) {
+                buckets[ordinal] = Arrays.copyOf(buckets[ordinal], sizes[ordinal] * 2);
+            }
+            buckets[ordinal][sizes[ordinal]++] = slot;
+        }
+
+        void remove(int ordinal, int slot) {
+            int[] bucket = buckets[ordinal];
+            for (int i = 0; i < sizes[ordinal]; i++) {
+                if (bucket[i] == slot) {
+                    System.arraycopy(bucket, i + 1, bucket, i, sizes[ordinal] - i - 1);
+                    sizes[ordinal]--;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Passes each slot of the NRIC with the given ordinal to {@code action}, which must not change this index.
+         */
+        void forEach(int ordinal, IntConsumer action) {
+            if (ordinal < 0 || ordinal >= buckets.length) {
+                return;
+            }
+            for (int i = 0; i < sizes[ordinal]; i++) {
+                action.accept(buckets[ordinal][i]);
+            }
+        }
+
+        void clear() {
+            buckets = new int[0][];
+            sizes = new int[0];
+        }
+    }
 }
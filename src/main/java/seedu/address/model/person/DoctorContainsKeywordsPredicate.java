@@ -16,6 +16,10 @@ public class DoctorContainsKeywordsPredicate implements Predicate<Person> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person doctor) {
         if (doctor.getType() != Type.DOCTOR) {
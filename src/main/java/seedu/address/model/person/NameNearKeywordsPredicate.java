@@ -0,0 +1,108 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} is within a few typos of any of the keywords given,
+ * ignoring case. The number of typos allowed grows with the length of the keyword, see
+ * {@link #getMaxEditDistance(String)}. Optionally, only persons of one {@code Type} are matched.
+ */
+public class NameNearKeywordsPredicate implements Predicate<Person> {
+
+    /** The distance of a person with no name word near any keyword. */
+    public static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final List<String> keywords;
+    private final Type type;
+
+    /**
+     * Creates a predicate that matches persons of any type.
+     */
+    public NameNearKeywordsPredicate(List<String> keywords) {
+        this(keywords, null);
+    }
+
+    /**
+     * Creates a predicate that matches only persons of {@code type}, or of any type if it is null.
+     */
+    public NameNearKeywordsPredicate(List<String> keywords, Type type) {
+        this.keywords = keywords;
+        this.type = type;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the number of edits allowed between {@code keyword} and a name word: none for keywords of up to
+     * 2 characters, 1 for up to 5 characters, and 2 for longer keywords.
+     */
+    public static int getMaxEditDistance(String keyword) {
+        int length = keyword.trim().length();
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 5 ? 1 : 2;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return (type == null || person.getType() == type) && getDistance(person) != NO_MATCH;
+    }
+
+    /**
+     * Returns the smallest edit distance between a word of the name of {@code person} and a keyword it is
+     * allowed to match, or {@link #NO_MATCH} if there is none. Closer matches have smaller distances.
+     */
+    public int getDistance(Person person) {
+        int bestDistance = NO_MATCH;
+        for (String word : StringUtil.splitWords(person.getName().fullName)) {
+            String foldedWord = StringUtil.foldCase(word);
+            for (String keyword : keywords) {
+                int distance = StringUtil.getEditDistance(foldedWord, StringUtil.foldCase(keyword.trim()));
+                if (distance <= getMaxEditDistance(keyword)) {
+                    bestDistance = Math.min(bestDistance, distance);
+                }
+            }
+        }
+        return bestDistance;
+    }
+
+    /**
+     * Returns a comparator that puts persons with closer matches first. The distance of each person is only
+     * computed once.
+     */
+    public Comparator<Person> closestFirst() {
+        Map<Person, Integer> distances = new IdentityHashMap<>();
+        return Comparator.comparingInt(person -> distances.computeIfAbsent(person, this::getDistance));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameNearKeywordsPredicate)) {
+            return false;
+        }
+
+        NameNearKeywordsPredicate otherPredicate = (NameNearKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords) && Objects.equals(type, otherPredicate.type);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).add("type", type).toString();
+    }
+}
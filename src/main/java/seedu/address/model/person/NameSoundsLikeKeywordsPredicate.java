@@ -0,0 +1,53 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} sounds like any of the keywords given, i.e. that both have
+ * the same Soundex code.
+ *
+ * @see StringUtil#getSoundex(String)
+ */
+public class NameSoundsLikeKeywordsPredicate implements Predicate<Person> {
+    private final List<String> keywords;
+
+    public NameSoundsLikeKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return StringUtil.splitWords(person.getName().fullName).stream()
+                .map(StringUtil::getSoundex)
+                .filter(code -> !code.isEmpty())
+                .anyMatch(code -> keywords.stream().anyMatch(keyword -> code.equals(StringUtil.getSoundex(keyword))));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameSoundsLikeKeywordsPredicate)) {
+            return false;
+        }
+
+        NameSoundsLikeKeywordsPredicate otherNameSoundsLikeKeywordsPredicate = (NameSoundsLikeKeywordsPredicate) other;
+        return keywords.equals(otherNameSoundsLikeKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A BK-tree over name words, which finds the words within a given edit distance of a word without comparing it to
+ * every word.
+ *
+ * Each child of a node is keyed on its edit distance to the node. By the triangle inequality, a word within
+ * {@code maxDistance} of the query can only be below the children whose key is within {@code maxDistance} of the
+ * distance from the query to the node, so all other children are skipped.
+ */
+class NameWordBkTree {
+
+    private Node root;
+    private int size = 0;
+
+    /**
+     * Adds {@code word} to the tree, if it is not already in it.
+     */
+    void add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the words within {@code maxDistance} of {@code word}, each with its distance to {@code word}.
+     */
+    Map<String, Integer> getWordsNear(String word, int maxDistance) {
+        requireNonNull(word);
+        Map<String, Integer> result = new LinkedHashMap<>();
+        if (root == null || maxDistance < 0) {
+            return result;
+        }
+
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.add(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.poll();
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance <= maxDistance) {
+                result.put(node.word, distance);
+            }
+            for (int childDistance = Math.max(1, distance - maxDistance); childDistance <= distance + maxDistance;
+                    childDistance++) {
+                Node child = node.children.get(childDistance);
+                if (child != null) {
+                    toVisit.add(child);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
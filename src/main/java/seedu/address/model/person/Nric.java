@@ -3,9 +3,20 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.WeakReference;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's nric in the address book.
- * Guarantees: immutable; is valid as declared in {@link #isValidNric(String)}
+ * Guarantees: immutable; is valid as declared in {@link #isValidNric(String)}; is in upper case, so that NRICs
+ * that differ only in case are equal and have the same hash code.
+ *
+ * NRICs created with {@link #of(String)} are shared, so every person and appointment with the same NRIC refers to
+ * a single {@code Nric}. The pool of shared NRICs only holds them weakly, so an NRIC that is no longer referred to,
+ * such as one typed into a query, is dropped from it.
  */
 public class Nric {
 
@@ -18,6 +29,11 @@ public class Nric {
      */
     public static final String VALIDATION_REGEX = "^[STFGMstfgm][0-9]{7}[A-Za-z]$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    // The shared Nric of each NRIC, keyed by its own upper case string so that the entry lives as long as it does
+    private static final Map<String, WeakReference<Nric>> pool = new WeakHashMap<>();
+
     public final String nric;
 
     /**
@@ -28,14 +44,34 @@ public class Nric {
     public Nric(String nric) {
         requireNonNull(nric);
         checkArgument(isValidNric(nric), MESSAGE_CONSTRAINTS);
-        this.nric = nric;
+        this.nric = nric.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the shared {@code Nric} of {@code nric}.
+     *
+     * @param nric A valid nric.
+     */
+    public static Nric of(String nric) {
+        requireNonNull(nric);
+        checkArgument(isValidNric(nric), MESSAGE_CONSTRAINTS);
+        String key = nric.toUpperCase(Locale.ROOT);
+        synchronized (pool) {
+            WeakReference<Nric> reference = pool.get(key);
+            Nric shared = reference == null ? null : reference.get();
+            if (shared == null) {
+                shared = new Nric(key);
+                pool.put(shared.nric, new WeakReference<>(shared));
+            }
+            return shared;
+        }
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidNric(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
@@ -56,7 +92,7 @@ public class Nric {
         }
 
         Nric otherNric = (Nric) other;
-        return nric.toLowerCase().equals(otherNric.nric.toLowerCase());
+        return nric.equals(otherNric.nric);
     }
 
     @Override
@@ -16,6 +16,10 @@ public class PatientContainsKeywordsPredicate implements Predicate<Person> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person patient) {
         if (patient.getType() != Type.PATIENT) {
@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the case-folded words of the names of persons to the persons whose names contain them.
+ * Names are split into words once, when a person is added, so looking up a word is a single hash lookup.
+ *
+ * The words are also kept in a {@code NameWordBkTree}, so that the words close to a misspelt word can be found
+ * without going through all of them. Words that no person has any more stay in the tree until they make up half
+ * of it, when the tree is rebuilt.
+ */
+class PersonNameWordIndex {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+    private final NameWordBkTree wordTree = new NameWordBkTree();
+
+    /**
+     * Adds {@code person} to the posting lists of the words of its name.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        for (String word : StringUtil.splitWords(person.getName().fullName)) {
+            postings.computeIfAbsent(StringUtil.foldCase(word), key -> {
+                wordTree.add(key);
+                return Collections.newSetFromMap(new IdentityHashMap<>());
+            }).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must be the same object that was added, from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (String word : StringUtil.splitWords(person.getName().fullName)) {
+            String key = StringUtil.foldCase(word);
+            Set<Person> posting = postings.get(key);
+            if (posting != null) {
+                posting.remove(person);
+                if (posting.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+
+        if (wordTree.size() > 2 * postings.size()) {
+            wordTree.clear();
+            postings.keySet().forEach(wordTree::add);
+        }
+    }
+
+    void clear() {
+        postings.clear();
+        wordTree.clear();
+    }
+
+    /**
+     * Returns the persons whose name has {@code word} as one of its words, ignoring case.
+     */
+    Set<Person> getPersonsWithWord(String word) {
+        requireNonNull(word);
+        return Collections.unmodifiableSet(
+                postings.getOrDefault(StringUtil.foldCase(word.trim()), Collections.emptySet()));
+    }
+
+    /**
+     * Returns the persons whose name has a word within {@code maxDistance} edits of {@code word}, ignoring case,
+     * each with the smallest such distance.
+     */
+    Map<Person, Integer> getPersonsWithWordNear(String word, int maxDistance) {
+        requireNonNull(word);
+        Map<Person, Integer> result = new IdentityHashMap<>();
+        wordTree.getWordsNear(StringUtil.foldCase(word.trim()), maxDistance).forEach((nearWord, distance) -> {
+            for (Person person : postings.getOrDefault(nearWord, Collections.emptySet())) {
+                result.merge(person, distance, Math::min);
+            }
+        });
+        return result;
+    }
+}
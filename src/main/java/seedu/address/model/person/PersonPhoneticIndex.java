@@ -0,0 +1,65 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the Soundex codes of the words of the names of persons to the persons whose names contain
+ * a word with that code. Names that are spelt differently but sound alike, such as {@code Mohamed} and
+ * {@code Muhammad}, share codes, so the persons with a name that sounds like a word are found with one hash lookup.
+ */
+class PersonPhoneticIndex {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the posting lists of the codes of the words of its name.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        for (String word : StringUtil.splitWords(person.getName().fullName)) {
+            String code = StringUtil.getSoundex(word);
+            if (!code.isEmpty()) {
+                postings.computeIfAbsent(code, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                        .add(person);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must be the same object that was added, from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (String word : StringUtil.splitWords(person.getName().fullName)) {
+            String code = StringUtil.getSoundex(word);
+            Set<Person> posting = postings.get(code);
+            if (posting != null) {
+                posting.remove(person);
+                if (posting.isEmpty()) {
+                    postings.remove(code);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the persons whose name has a word with the same Soundex code as {@code word}.
+     */
+    Set<Person> getPersonsSoundingLike(String word) {
+        requireNonNull(word);
+        return Collections.unmodifiableSet(
+                postings.getOrDefault(StringUtil.getSoundex(word), Collections.emptySet()));
+    }
+}
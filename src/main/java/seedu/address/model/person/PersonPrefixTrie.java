@@ -0,0 +1,224 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A prefix trie over the NRICs of persons and each word of their names, from the start of that word to the end of
+ * the name, case-insensitively. Finding the persons with a given prefix walks down the prefix and then collects
+ * persons below it until enough are found, so it takes time proportional to the prefix and the number of results
+ * rather than to the number of persons.
+ *
+ * There is a node for every character of every key, so nodes are kept small: children are held in a sorted array
+ * that only grows as they are added, and a node only gets a list of persons once a key ends at it. Most nodes are
+ * in the middle of a key and hold nothing but their children.
+ *
+ * All methods are synchronized, as {@code CommandBox} looks up suggestions on a background thread of its own while
+ * the list is changed by commands on the JavaFX application thread.
+ */
+class PersonPrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Adds {@code person} under its NRIC and its name.
+     */
+    synchronized void add(Person person) {
+        requireNonNull(person);
+        for (String key : getKeys(person)) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.getOrAddChild(key.charAt(i));
+            }
+            node.addPerson(person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must be the same object that was added, from the trie.
+     */
+    synchronized void remove(Person person) {
+        requireNonNull(person);
+        for (String key : getKeys(person)) {
+            remove(root, key, 0, person);
+        }
+    }
+
+    synchronized void clear() {
+        root.clear();
+    }
+
+    /**
+     * Returns up to {@code limit} distinct persons whose NRIC, or a word of whose name, starts with {@code prefix},
+     * ignoring case. Persons under shorter keys come first, and keys of the same length are in alphabetical order.
+     */
+    synchronized List<Person> getPersonsWithPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<Person> result = new ArrayList<>();
+        String preppedPrefix = prefix.trim().toLowerCase();
+        if (preppedPrefix.isEmpty() || limit <= 0) {
+            return result;
+        }
+
+        Node node = root;
+        for (int i = 0; i < preppedPrefix.length() && node != null; i++) {
+            node = node.getChild(preppedPrefix.charAt(i));
+        }
+        if (node == null) {
+            return result;
+        }
+
+        // Breadth first, so that the closest completions are suggested first
+        Set<Person> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.add(node);
+        while (!toVisit.isEmpty() && result.size() < limit) {
+            Node current = toVisit.poll();
+            for (Person person : current.getPersons()) {
+                if (result.size() < limit && seen.add(person)) {
+                    result.add(person);
+                }
+            }
+            current.forEachChild(toVisit::add);
+        }
+        return result;
+    }
+
+    /**
+     * Removes {@code person} from the node at the end of {@code key}, and returns true if the node at
+     * {@code depth} is left empty and can be pruned.
+     */
+    private static boolean remove(Node node, String key, int depth, Person person) {
+        if (depth == key.length()) {
+            node.removePerson(person);
+        } else {
+            Node child = node.getChild(key.charAt(depth));
+            if (child != null && remove(child, key, depth + 1, person)) {
+                node.removeChild(key.charAt(depth));
+            }
+        }
+        return node.isEmpty();
+    }
+
+    private static List<String> getKeys(Person person) {
+        List<String> keys = new ArrayList<>();
+        keys.add(person.getNric().nric.toLowerCase());
+        String name = person.getName().fullName.toLowerCase();
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != ' ' && (i == 0 || name.charAt(i - 1) == ' ')) {
+                keys.add(name.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * A node of the trie. Its children are kept in {@code children}, ordered by the characters in {@code labels},
+     * of which the first {@code childCount} are in use. The arrays and the list of persons are null until needed.
+     */
+    private static class Node {
+        private static final int INITIAL_CHILD_CAPACITY = 2;
+
+        private char[] labels;
+        private Node[] children;
+        private int childCount = 0;
+        private List<Person> persons;
+
+        Node getChild(char label) {
+            int index = indexOf(label);
+            return index < 0 ? null : children[index];
+        }
+
+        Node getOrAddChild(char label) {
+            int index = indexOf(label);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertAt = -index - 1;
+            if (children == null) {
+                labels = new char[INITIAL_CHILD_CAPACITY];
+                children = new Node[INITIAL_CHILD_CAPACITY];
+            } else if (childCount == children.length) {
+                labels = Arrays.copyOf(labels, childCount * 2);
+                children = Arrays.copyOf(children, childCount * 2);
+            }
+            System.arraycopy(labels, insertAt, labels, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            Node child = new Node();
+            labels[insertAt] = label;
+            children[insertAt] = child;
+            childCount++;
+            return child;
+        }
+
+        void removeChild(char label) {
+            int index = indexOf(label);
+            if (index < 0) {
+                return;
+            }
+
+            childCount--;
+            System.arraycopy(labels, index + 1, labels, index, childCount - index);
+            System.arraycopy(children, index + 1, children, index, childCount - index);
+            children[childCount] = null;
+            if (childCount == 0) {
+                labels = null;
+                children = null;
+            }
+        }
+
+        /**
+         * Passes the children of this node to {@code action} in the order of their characters.
+         */
+        void forEachChild(Consumer<Node> action) {
+            for (int i = 0; i < childCount; i++) {
+                action.accept(children[i]);
+            }
+        }
+
+        List<Person> getPersons() {
+            return persons == null ? Collections.emptyList() : persons;
+        }
+
+        void addPerson(Person person) {
+            if (persons == null) {
+                persons = new ArrayList<>(1);
+            }
+            persons.add(person);
+        }
+
+        void removePerson(Person person) {
+            if (persons != null && persons.removeIf(existing -> existing == person) && persons.isEmpty()) {
+                persons = null;
+            }
+        }
+
+        boolean isEmpty() {
+            return persons == null && childCount == 0;
+        }
+
+        void clear() {
+            labels = null;
+            children = null;
+            childCount = 0;
+            persons = null;
+        }
+
+        /**
+         * Returns the index of the child for {@code label}, or {@code -(insertion point) - 1} if there is none.
+         */
+        private int indexOf(char label) {
+            return labels == null ? -1 : Arrays.binarySearch(labels, 0, childCount, label);
+        }
+    }
+}
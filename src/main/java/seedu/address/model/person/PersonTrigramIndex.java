@@ -0,0 +1,109 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An inverted index from the trigrams (substrings of 3 characters) of the NRIC, name, date of birth and phone number
+ * of persons, case-insensitively, to the persons whose fields contain them.
+ *
+ * A person whose fields contain a keyword of at least 3 characters must be in the posting list of every trigram of
+ * the keyword, so intersecting those lists gives a small set of candidates that only needs to be verified.
+ * Trigrams are taken within each field, never across two fields.
+ */
+class PersonTrigramIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, Set<Person>> postings = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the posting lists of the trigrams of its fields.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        for (Long trigram : getTrigrams(person)) {
+            postings.computeIfAbsent(trigram, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must be the same object that was added, from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (Long trigram : getTrigrams(person)) {
+            Set<Person> posting = postings.get(trigram);
+            if (posting != null) {
+                posting.remove(person);
+                if (posting.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the persons that may have a field containing {@code keyword}, ignoring case, or an empty
+     * {@code Optional} if the keyword is too short to be looked up, in which case any person may.
+     */
+    Optional<Set<Person>> getCandidates(String keyword) {
+        requireNonNull(keyword);
+        String preppedKeyword = keyword.trim().toLowerCase();
+        if (preppedKeyword.length() < GRAM_LENGTH) {
+            return Optional.empty();
+        }
+
+        List<Set<Person>> keywordPostings = new ArrayList<>();
+        for (Long trigram : getTrigrams(preppedKeyword, new HashSet<>())) {
+            Set<Person> posting = postings.get(trigram);
+            if (posting == null) {
+                return Optional.of(Collections.emptySet());
+            }
+            keywordPostings.add(posting);
+        }
+
+        // Intersecting from the shortest posting list keeps the working set as small as possible
+        keywordPostings.sort(Comparator.comparingInt(Set::size));
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(keywordPostings.get(0));
+        for (int i = 1; i < keywordPostings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(keywordPostings.get(i));
+        }
+        return Optional.of(candidates);
+    }
+
+    private static Set<Long> getTrigrams(Person person) {
+        Set<Long> trigrams = new HashSet<>();
+        getTrigrams(person.getNric().nric.toLowerCase(), trigrams);
+        getTrigrams(person.getName().fullName.toLowerCase(), trigrams);
+        getTrigrams(person.getDoB().dateOfBirth.toString().toLowerCase(), trigrams);
+        getTrigrams(person.getPhone().value.toLowerCase(), trigrams);
+        return trigrams;
+    }
+
+    /**
+     * Adds the trigrams of {@code text}, each packed into a {@code long}, to {@code trigrams} and returns it.
+     */
+    private static Set<Long> getTrigrams(String text, Set<Long> trigrams) {
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return trigrams;
+    }
+}
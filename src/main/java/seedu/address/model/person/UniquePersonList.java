@@ -4,8 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +28,13 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by their case-normalised NRIC so that identity checks and NRIC lookups
+ * do not need to scan the list. A {@code PersonTrigramIndex} over their NRIC, name, date of birth and phone number
+ * narrows down keyword searches to a few candidates, a {@code PersonNameWordIndex} finds the persons with a given
+ * word in their name, a {@code PersonPhoneticIndex} finds the persons with a name word that sounds like a given
+ * word, and a {@code PersonPrefixTrie} over their NRIC and name finds the persons that a partly typed
+ * NRIC or name could refer to. The indexes are kept in sync by every mutating operation.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -29,13 +44,21 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Nric, Person> nricIndex = new HashMap<>();
+    private final PersonTrigramIndex trigramIndex = new PersonTrigramIndex();
+    private final PersonNameWordIndex nameWordIndex = new PersonNameWordIndex();
+    private final PersonPhoneticIndex phoneticIndex = new PersonPhoneticIndex();
+    private final PersonPrefixTrie prefixTrie = new PersonPrefixTrie();
+    // The position of each person relative to the others, which increases along the list
+    private final Map<Person, Long> sequences = new IdentityHashMap<>();
+    private long nextSequence = 0;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nricIndex.containsKey(toCheck.getNric());
     }
 
     /**
@@ -45,7 +68,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsNric(String nricToCheck) {
         requireNonNull(nricToCheck);
-        return internalList.stream().anyMatch(x -> x.getNric().equals(new Nric(nricToCheck)));
+        return Nric.isValidNric(nricToCheck) && nricIndex.containsKey(new Nric(nricToCheck));
     }
 
     /**
@@ -58,14 +81,19 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        nricIndex.put(toAdd.getNric(), toAdd);
+        sequences.put(toAdd, nextSequence++);
+        addToSearchIndexes(toAdd);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     *
+     * @return the person that was replaced.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public Person setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
         int index = internalList.indexOf(target);
@@ -77,23 +105,40 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        nricIndex.remove(target.getNric());
+        nricIndex.put(editedPerson.getNric(), editedPerson);
+        sequences.put(editedPerson, sequences.remove(replaced));
+        removeFromSearchIndexes(replaced);
+        addToSearchIndexes(editedPerson);
+        return replaced;
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return the person that was removed.
      */
-    public void remove(Person toRemove) {
+    public Person remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        nricIndex.remove(toRemove.getNric());
+        Person removed = internalList.remove(index);
+        sequences.remove(removed);
+        removeFromSearchIndexes(removed);
+        return removed;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        nricIndex.clear();
+        nricIndex.putAll(replacement.nricIndex);
+        rebuildSearchIndexes();
     }
 
     /**
@@ -107,6 +152,88 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        rebuildNricIndex();
+        rebuildSearchIndexes();
+    }
+
+    /**
+     * Returns the persons, in the order of the list, whose NRIC, name, date of birth or phone number may contain any
+     * of {@code keywords}, ignoring case. They are meant to be checked against the keywords, which then only has to be
+     * done for the few persons returned. If the trigram index cannot narrow down a keyword, every person is returned.
+     */
+    public List<Person> getKeywordCandidates(List<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            Optional<Set<Person>> keywordCandidates = trigramIndex.getCandidates(keyword);
+            if (!keywordCandidates.isPresent()) {
+                return internalUnmodifiableList;
+            }
+            candidates.addAll(keywordCandidates.get());
+        }
+        return inListOrder(candidates);
+    }
+
+    /**
+     * Returns exactly the persons with any of {@code words} as a word of their name, ignoring case, in the order of
+     * the list.
+     */
+    public List<Person> getNameWordCandidates(List<String> words) {
+        requireAllNonNull(words);
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String word : words) {
+            candidates.addAll(nameWordIndex.getPersonsWithWord(word));
+        }
+        return inListOrder(candidates);
+    }
+
+    /**
+     * Returns exactly the persons with a word of their name within
+     * {@link NameNearKeywordsPredicate#getMaxEditDistance(String)} edits of any of {@code words}, ignoring case,
+     * in the order of the list.
+     */
+    public List<Person> getNameWordNearCandidates(List<String> words) {
+        requireAllNonNull(words);
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String word : words) {
+            candidates.addAll(nameWordIndex.getPersonsWithWordNear(word,
+                    NameNearKeywordsPredicate.getMaxEditDistance(word)).keySet());
+        }
+        return inListOrder(candidates);
+    }
+
+    /**
+     * Returns exactly the persons with a word of their name that sounds like any of {@code words}, in the order of
+     * the list.
+     *
+     * @see NameSoundsLikeKeywordsPredicate
+     */
+    public List<Person> getNameSoundCandidates(List<String> words) {
+        requireAllNonNull(words);
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String word : words) {
+            candidates.addAll(phoneticIndex.getPersonsSoundingLike(word));
+        }
+        return inListOrder(candidates);
+    }
+
+    /**
+     * Returns {@code persons}, which must be in the list, in the order of the list. This takes time proportional to
+     * the number of {@code persons}, rather than to the size of the list.
+     */
+    private List<Person> inListOrder(Set<Person> persons) {
+        List<Person> ordered = new ArrayList<>(persons);
+        ordered.sort(Comparator.comparingLong(sequences::get));
+        return ordered;
+    }
+
+    /**
+     * Returns up to {@code limit} persons whose NRIC, or a word of whose name, starts with {@code prefix},
+     * ignoring case. This can be called from any thread.
+     */
+    public List<Person> getPersonsWithPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return prefixTrie.getPersonsWithPrefix(prefix, limit);
     }
 
     /**
@@ -150,25 +277,68 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Nric> seenNrics = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNrics.add(person.getNric())) {
+                return false;
             }
         }
         return true;
     }
 
+    /**
+     * Returns the person with the given NRIC.
+     * @param nricObj nric of the person to look up
+     * @return person with the given nric
+     * @throws PersonNotFoundException if no person in the list has the given nric
+     */
     public Person getPersonByNric(Nric nricObj) throws PersonNotFoundException {
-        ArrayList<Person> personList = new ArrayList<Person>(internalList);
+        requireNonNull(nricObj);
+        Person person = nricIndex.get(nricObj);
+        if (person == null) {
+            throw new PersonNotFoundException();
+        }
+        return person;
+    }
 
-        for (Person p : personList) {
-            if (p.getNric().equals(nricObj)) {
-                return p;
-            }
+    /**
+     * Rebuilds the NRIC index from the current contents of the backing list.
+     */
+    private void rebuildNricIndex() {
+        nricIndex.clear();
+        for (Person p : internalList) {
+            nricIndex.put(p.getNric(), p);
         }
+    }
+
+    private void addToSearchIndexes(Person person) {
+        trigramIndex.add(person);
+        nameWordIndex.add(person);
+        phoneticIndex.add(person);
+        prefixTrie.add(person);
+    }
 
-        throw new PersonNotFoundException();
+    private void removeFromSearchIndexes(Person person) {
+        trigramIndex.remove(person);
+        nameWordIndex.remove(person);
+        phoneticIndex.remove(person);
+        prefixTrie.remove(person);
+    }
+
+    /**
+     * Rebuilds the trigram index, the name word index, the phonetic index and the prefix trie from the current
+     * contents of the backing list, and numbers the persons in their order in the list.
+     */
+    private void rebuildSearchIndexes() {
+        trigramIndex.clear();
+        nameWordIndex.clear();
+        phoneticIndex.clear();
+        prefixTrie.clear();
+        sequences.clear();
+        nextSequence = 0;
+        for (Person person : internalList) {
+            sequences.put(person, nextSequence++);
+            addToSearchIndexes(person);
+        }
     }
 }
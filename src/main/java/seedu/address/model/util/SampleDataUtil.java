@@ -38,8 +38,8 @@ public class SampleDataUtil {
             // new Person(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
             //     new Address("Blk 45 Aljunied Street 85, #11-31"),
             //     getTagSet("colleagues"))
-            new Patient(new Nric("S1234567A"), new Name("John Doe"), new DoB("2002-01-30"), new Phone("92624417")),
-            new Patient(new Nric("S0123456A"), new Name("David Li"), new DoB("2003-04-28"), new Phone("87438807"))
+            new Patient(Nric.of("S1234567A"), new Name("John Doe"), new DoB("2002-01-30"), new Phone("92624417")),
+            new Patient(Nric.of("S0123456A"), new Name("David Li"), new DoB("2003-04-28"), new Phone("87438807"))
         };
     }
 
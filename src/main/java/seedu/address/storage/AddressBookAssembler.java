@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_APPOINTMENTS;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Builds an {@code AddressBook} from json adapted persons and appointments read from storage.
+ *
+ * Records are converted to their model types in parallel, as each conversion is independent of the others and
+ * validating every field dominates the cost of loading a large file. Duplicates can only be found once all records
+ * have been converted, so they are checked for in a single pass when the address book is built.
+ * Records may be added in batches, so that a reader never has to hold the whole file in its json form.
+ */
+class AddressBookAssembler {
+
+    /** Number of records a streaming reader should collect before handing them over to be converted. */
+    public static final int BATCH_SIZE = 4096;
+
+    // Below this many records, splitting the work costs more than it saves
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    private final List<Person> persons = new ArrayList<>();
+    private final List<Appointment> appointments = new ArrayList<>();
+
+    /**
+     * Converts a json adapted record into its model type.
+     */
+    @FunctionalInterface
+    interface Converter<T, R> {
+        R toModelType(T adapted) throws IllegalValueException;
+    }
+
+    /**
+     * Converts {@code adaptedPersons} and adds them after the persons added so far.
+     *
+     * @throws IllegalValueException if any of the persons violates a data constraint.
+     */
+    public void addPersons(List<JsonAdaptedPerson> adaptedPersons) throws IllegalValueException {
+        persons.addAll(toModelTypes(adaptedPersons, JsonAdaptedPerson::toModelType));
+    }
+
+    /**
+     * Converts {@code adaptedAppointments} and adds them after the appointments added so far.
+     *
+     * @throws IllegalValueException if any of the appointments violates a data constraint.
+     */
+    public void addAppointments(List<JsonAdaptedAppointment> adaptedAppointments) throws IllegalValueException {
+        appointments.addAll(toModelTypes(adaptedAppointments, JsonAdaptedAppointment::toModelType));
+    }
+
+    /**
+     * Returns an address book holding every person and appointment added, in the order they were added.
+     *
+     * @throws IllegalValueException if there are duplicate persons or duplicate appointments.
+     */
+    public AddressBook toAddressBook() throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        try {
+            addressBook.setAppointments(appointments);
+        } catch (DuplicateAppointmentException dae) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_APPOINTMENTS);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the model types of {@code adapted}, in the same order.
+     * If more than one record is invalid, the exception of the first of them is thrown, so that the error reported
+     * does not depend on how the work was split.
+     *
+     * @throws IllegalValueException if any of the records violates a data constraint.
+     */
+    static <T, R> List<R> toModelTypes(List<T> adapted, Converter<T, R> converter) throws IllegalValueException {
+        requireNonNull(converter);
+        int size = adapted.size();
+        Object[] models = new Object[size];
+        IllegalValueException[] failures = new IllegalValueException[size];
+
+        IntStream indices = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                models[i] = converter.toModelType(adapted.get(i));
+            } catch (IllegalValueException ive) {
+                failures[i] = ive;
+            }
+        });
+
+        List<R> converted = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (failures[i] != null) {
+                throw failures[i];
+            }
+            @SuppressWarnings("unchecked")
+            R model = (R) models[i];
+            converted.add(model);
+        }
+        return converted;
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads address book data files whose previous versions are kept next to them,
+ * as written by {@link FileUtil#writeToFile(Path, String, int)}.
+ */
+class AddressBookFileGenerations {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFileGenerations.class);
+
+    /**
+     * Reads an address book from a single data file.
+     */
+    @FunctionalInterface
+    interface Reader {
+        AddressBook read(Path filePath) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} or any of its previous {@code generations} versions exists.
+     */
+    static boolean exists(Path filePath, int generations) {
+        return FileUtil.getGenerationPaths(filePath, generations).stream().anyMatch(Files::exists);
+    }
+
+    /**
+     * Returns the address book in the newest readable one of the file at {@code filePath} and its previous
+     * {@code generations} versions, or {@code Optional.empty()} if none of them exist.
+     *
+     * @throws DataLoadingException if some versions exist but none can be read, with the cause of the newest failure.
+     */
+    static Optional<AddressBook> readNewestValid(Path filePath, int generations, Reader reader)
+            throws DataLoadingException {
+        DataLoadingException newestFailure = null;
+        for (Path generationPath : FileUtil.getGenerationPaths(filePath, generations)) {
+            if (!Files.exists(generationPath)) {
+                continue;
+            }
+
+            try {
+                AddressBook addressBook = reader.read(generationPath);
+                if (newestFailure != null) {
+                    logger.warning(filePath + " could not be read. Using its previous version " + generationPath);
+                }
+                return Optional.of(addressBook);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + generationPath + ": " + ive.getMessage());
+                newestFailure = newestFailure == null ? new DataLoadingException(ive) : newestFailure;
+            } catch (IOException ioe) {
+                logger.warning("Error reading from " + generationPath + ": " + ioe);
+                newestFailure = newestFailure == null ? new DataLoadingException(ioe) : newestFailure;
+            }
+        }
+
+        if (newestFailure != null) {
+            throw newestFailure;
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Creates the storage for each {@code AddressBookFormat}, and converts data files between the formats.
+ *
+ * Every format stores all the fields of every person and appointment, so converting a data file to another format
+ * and back gives the same address book. To switch an existing data file to another format, run
+ * <pre>java -cp addressbook.jar seedu.address.storage.AddressBookFormatConverter JSON data/addressbook.json
+ *     BINARY data/addressbook.bin</pre>
+ * and then set {@code addressBookFormat} and {@code addressBookFilePath} in the preferences file to match.
+ */
+public class AddressBookFormatConverter {
+
+    public static final String MESSAGE_USAGE =
+            "Usage: AddressBookFormatConverter SOURCE_FORMAT SOURCE_FILE TARGET_FORMAT TARGET_FILE\n"
+            + "Formats: JSON, BINARY";
+
+    /**
+     * Returns the storage for a data file at {@code filePath} in the given {@code format}.
+     */
+    public static AddressBookStorage createStorage(Path filePath, AddressBookFormat format) {
+        requireAllNonNull(filePath, format);
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case JSON:
+        default:
+            return new JournaledAddressBookStorage(filePath);
+        }
+    }
+
+    /**
+     * Saves the address book in {@code source} to {@code target}.
+     *
+     * @throws DataLoadingException if the address book in {@code source} is missing or could not be read.
+     * @throws IOException if the address book could not be saved to {@code target}.
+     */
+    public static void convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(source, target);
+        ReadOnlyAddressBook addressBook = source.readAddressBook().orElseThrow(() ->
+                new DataLoadingException(new NoSuchFileException(source.getAddressBookFilePath().toString())));
+        target.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Converts the data file named by the arguments, as described in {@link #MESSAGE_USAGE}.
+     */
+    public static void main(String[] args) {
+        if (args.length != 4) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        try {
+            AddressBookStorage source = createStorage(Paths.get(args[1]), AddressBookFormat.valueOf(args[0]));
+            AddressBookStorage target = createStorage(Paths.get(args[3]), AddressBookFormat.valueOf(args[2]));
+            convert(source, target);
+        } catch (IllegalArgumentException e) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        } catch (DataLoadingException | IOException e) {
+            System.err.println("Could not convert " + args[1] + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
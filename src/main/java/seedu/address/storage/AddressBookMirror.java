@@ -0,0 +1,164 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.UniqueAppointmentList;
+import seedu.address.model.person.Person;
+
+/**
+ * A copy of an address book that is kept up to date by applying the changes made to the original, so that the
+ * address book can be saved on another thread without copying all of it for every change.
+ *
+ * Persons are immutable, so they are shared with the original and found by identity. Appointments are kept in a
+ * {@code UniqueAppointmentList} of their own, which stores them column by column, and are found by value, so the
+ * mirror does not keep every appointment of the original on the heap. An edited person or appointment takes the
+ * position of the one it replaced, as it does in the original.
+ */
+class AddressBookMirror implements ReadOnlyAddressBook {
+
+    private final Entries<Person> persons = new Entries<>();
+    private final UniqueAppointmentList appointments = new UniqueAppointmentList();
+    private ObservableList<Person> personList;
+
+    /**
+     * Creates a mirror of the current contents of {@code source}, which must not change while it is copied.
+     */
+    public AddressBookMirror(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        source.getPersonList().forEach(persons::add);
+        appointments.setAppointmentsExistingBook(source.getAppointmentList());
+    }
+
+    /**
+     * Applies {@code changes}, which must have been made to the original after the changes applied so far.
+     * A reset cannot be applied, as it does not say what the address book was replaced with.
+     */
+    public void apply(AddressBookChanges changes) {
+        requireNonNull(changes);
+        assert !changes.isReset();
+        for (Appointment loaded : changes.getLoadedAppointments()) {
+            if (!appointments.contains(loaded)) {
+                appointments.add(loaded);
+            }
+        }
+        persons.apply(changes.getRemovedPersons(), changes.getAddedPersons(), changes::getReplacement);
+        applyAppointments(changes.getRemovedAppointments(), changes.getAddedAppointments(),
+                changes::getReplacement);
+        personList = null;
+    }
+
+    /**
+     * Removes the appointments in {@code removed}, except that an appointment whose replacement, or a later
+     * replacement of it, is in {@code added} is replaced in its position. The other appointments in {@code added}
+     * are added at the end. Appointments are found by value, so an intermediate edit that was never saved, and
+     * whose replacement has already taken the position of an earlier edit, is skipped rather than looked up.
+     */
+    private void applyAppointments(List<Appointment> removed, List<Appointment> added,
+            UnaryOperator<Appointment> replacementOf) {
+        Set<Appointment> toAdd = Collections.newSetFromMap(new IdentityHashMap<>());
+        toAdd.addAll(added);
+        Set<Appointment> placed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Appointment appointment : removed) {
+            Appointment replacement = replacementOf.apply(appointment);
+            while (replacement != null && !toAdd.contains(replacement) && !placed.contains(replacement)) {
+                replacement = replacementOf.apply(replacement);
+            }
+            if (placed.contains(replacement) || !appointments.contains(appointment)) {
+                continue;
+            }
+
+            if (replacement == null) {
+                appointments.remove(appointment);
+            } else {
+                toAdd.remove(replacement);
+                placed.add(replacement);
+                appointments.setAppointment(appointment, replacement);
+            }
+        }
+        for (Appointment appointment : added) {
+            if (toAdd.contains(appointment) && !appointments.contains(appointment)) {
+                appointments.add(appointment);
+            }
+        }
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        if (personList == null) {
+            personList = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons.values()));
+        }
+        return personList;
+    }
+
+    @Override
+    public ObservableList<Appointment> getAppointmentList() {
+        return appointments.asUnmodifiableObservableList();
+    }
+
+    /**
+     * Objects in the order they were added, found by identity. Each object has a slot that keeps its position,
+     * which a replacement takes over.
+     */
+    private static class Entries<T> {
+        private final Map<Long, T> bySlot = new LinkedHashMap<>();
+        private final Map<T, Long> slots = new IdentityHashMap<>();
+        private long nextSlot = 0;
+
+        void add(T entry) {
+            slots.put(entry, nextSlot);
+            bySlot.put(nextSlot, entry);
+            nextSlot++;
+        }
+
+        /**
+         * Removes the entries in {@code removed}, except that an entry whose replacement, or a later replacement of
+         * it, is in {@code added} is replaced in its position. The other entries in {@code added} are added at the
+         * end.
+         */
+        void apply(List<T> removed, List<T> added, UnaryOperator<T> replacementOf) {
+            Set<T> toAdd = Collections.newSetFromMap(new IdentityHashMap<>());
+            toAdd.addAll(added);
+            for (T entry : removed) {
+                Long slot = slots.remove(entry);
+                if (slot == null) {
+                    continue;
+                }
+
+                T replacement = replacementOf.apply(entry);
+                while (replacement != null && !toAdd.contains(replacement)) {
+                    replacement = replacementOf.apply(replacement);
+                }
+                if (replacement == null) {
+                    bySlot.remove(slot);
+                } else {
+                    toAdd.remove(replacement);
+                    slots.put(replacement, slot);
+                    bySlot.put(slot, replacement);
+                }
+            }
+            for (T entry : added) {
+                if (toAdd.contains(entry) && !slots.containsKey(entry)) {
+                    add(entry);
+                }
+            }
+        }
+
+        List<T> values() {
+            return new ArrayList<>(bySlot.values());
+        }
+    }
+}
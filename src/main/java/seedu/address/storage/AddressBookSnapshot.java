@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.UniqueAppointmentList;
+import seedu.address.model.person.Person;
+
+/**
+ * An unmodifiable copy of the person and appointment lists of a {@code ReadOnlyAddressBook}, taken so that the
+ * address book can be saved on another thread while the original keeps changing.
+ * Only the lists are copied; the persons themselves are immutable, so they are shared with the original. The
+ * appointments are copied into a {@code UniqueAppointmentList}, which stores them column by column rather than
+ * keeping every appointment of the original on the heap.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final UniqueAppointmentList appointments = new UniqueAppointmentList();
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getPersonList()));
+        appointments.setAppointmentsExistingBook(source.getAppointmentList());
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Appointment> getAppointmentList() {
+        return appointments.asUnmodifiableObservableList();
+    }
+}
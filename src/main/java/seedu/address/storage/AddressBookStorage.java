@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -42,4 +43,16 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code changes}, the changes made to {@code addressBook} since it was last saved, to the storage.
+     * Storages that cannot save changes on their own save the whole of {@code addressBook} instead.
+     * @param addressBook cannot be null.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        saveAddressBook(addressBook);
+    }
+
 }
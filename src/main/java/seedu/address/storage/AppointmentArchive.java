@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * An archive of past appointments, kept as one gzip compressed json file per month in a folder
+ * (e.g. {@code 2023-01.json.gz}).
+ *
+ * A month is archived once and its file is never changed afterwards, so an archived month can be read any number
+ * of times without being compared with or written back to the address book.
+ */
+class AppointmentArchive {
+
+    public static final String ARCHIVE_FILE_SUFFIX = ".json.gz";
+
+    private final Path folder;
+
+    AppointmentArchive(Path folder) {
+        requireNonNull(folder);
+        this.folder = folder;
+    }
+
+    /**
+     * Returns the months that have been archived.
+     */
+    Set<YearMonth> getMonths() throws IOException {
+        Set<YearMonth> months = new TreeSet<>();
+        if (!Files.isDirectory(folder)) {
+            return months;
+        }
+
+        try (DirectoryStream<Path> archiveFiles = Files.newDirectoryStream(folder, "*" + ARCHIVE_FILE_SUFFIX)) {
+            for (Path archiveFile : archiveFiles) {
+                String fileName = archiveFile.getFileName().toString();
+                try {
+                    months.add(YearMonth.parse(
+                            fileName.substring(0, fileName.length() - ARCHIVE_FILE_SUFFIX.length())));
+                } catch (DateTimeParseException e) {
+                    // Not an archive file
+                }
+            }
+        }
+        return months;
+    }
+
+    /**
+     * Archives {@code appointments} as the appointments of {@code month}.
+     *
+     * @throws FileAlreadyExistsException if {@code month} has already been archived.
+     */
+    void archive(YearMonth month, List<Appointment> appointments) throws IOException {
+        requireNonNull(month);
+        requireNonNull(appointments);
+        Path archivePath = getArchivePath(month);
+        if (Files.exists(archivePath)) {
+            throw new FileAlreadyExistsException(archivePath.toString());
+        }
+
+        byte[] content = JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(new ArrayList<>(),
+                appointments.stream().map(JsonAdaptedAppointment::new).collect(Collectors.toList())))
+                .getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeToFile(archivePath, out -> {
+            // Finished rather than closed, as the file is closed once it has been forced to disk
+            GZIPOutputStream compressed = new GZIPOutputStream(out);
+            compressed.write(content);
+            compressed.finish();
+        }, 0);
+    }
+
+    /**
+     * Returns the appointments archived for {@code month}, or an empty list if it has not been archived.
+     */
+    List<Appointment> read(YearMonth month) throws IOException {
+        requireNonNull(month);
+        Path archivePath = getArchivePath(month);
+        if (!Files.exists(archivePath)) {
+            return Collections.emptyList();
+        }
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(archivePath))) {
+            String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            return JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType()
+                    .getAppointmentList();
+        } catch (IllegalValueException e) {
+            throw new IOException("Could not read " + archivePath, e);
+        }
+    }
+
+    void delete(YearMonth month) throws IOException {
+        Files.deleteIfExists(getArchivePath(month));
+    }
+
+    Path getArchivePath(YearMonth month) {
+        return folder.resolve(month + ARCHIVE_FILE_SUFFIX);
+    }
+}
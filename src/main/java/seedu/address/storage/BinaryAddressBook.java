@@ -0,0 +1,244 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDateTime;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Type;
+
+/**
+ * Reads and writes address book data files in a compact binary format.
+ *
+ * A file holds, in order:
+ * <ul>
+ *     <li>the {@link #MAGIC} number and the format {@link #VERSION}, as an int and a short,</li>
+ *     <li>the number of persons as an int, followed by one record per person,</li>
+ *     <li>the number of appointments as an int, followed by one record per appointment,</li>
+ *     <li>the CRC-32 checksum of everything before it, as a long.</li>
+ * </ul>
+ * Every record is prefixed with its length in bytes as an int, so that a reader can skip fields added to the end of
+ * a record by a later minor revision of the format. NRICs are packed into a fixed-width field of six bytes, dates of
+ * birth are stored as epoch days and appointment times as epoch minutes.
+ *
+ * Records are decoded through the json adapted classes, so the same constraints are checked as for json files.
+ * As with json files, they are validated in batches by an {@link AddressBookAssembler}.
+ */
+class BinaryAddressBook {
+
+    public static final int MAGIC = 0x4D444142; // "MDAB"
+    public static final short VERSION = 1;
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "File is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary address book is corrupted.";
+    public static final String MESSAGE_INVALID_RECORD = "Binary address book record is invalid.";
+
+    // Far longer than any valid record, so that a corrupted length is caught before it is allocated
+    private static final int MAX_RECORD_LENGTH = 1 << 16;
+    private static final int NRIC_DIGITS = 7;
+    private static final byte PATIENT = 0;
+    private static final byte DOCTOR = 1;
+
+    /**
+     * Returns the address book in the binary file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not a valid binary address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        try (InputStream in = FileUtil.openForReading(filePath)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Returns the address book read from {@code in}.
+     *
+     * @throws IOException if the stream could not be read or is not a valid binary address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        CRC32 checksum = new CRC32();
+        DataInputStream data = new DataInputStream(new CheckedInputStream(in, checksum));
+        if (data.readInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+        short version = data.readShort();
+        if (version != VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        int personCount = data.readInt();
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            persons.add(readPerson(readRecord(data)));
+            if (persons.size() == AddressBookAssembler.BATCH_SIZE) {
+                assembler.addPersons(persons);
+                persons.clear();
+            }
+        }
+        assembler.addPersons(persons);
+
+        int appointmentCount = data.readInt();
+        List<JsonAdaptedAppointment> appointments = new ArrayList<>();
+        for (int i = 0; i < appointmentCount; i++) {
+            appointments.add(readAppointment(readRecord(data)));
+            if (appointments.size() == AddressBookAssembler.BATCH_SIZE) {
+                assembler.addAppointments(appointments);
+                appointments.clear();
+            }
+        }
+        assembler.addAppointments(appointments);
+
+        long expectedChecksum = checksum.getValue();
+        if (new DataInputStream(in).readLong() != expectedChecksum) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        return assembler.toAddressBook();
+    }
+
+    /**
+     * Writes {@code addressBook} to the binary file at {@code filePath}, keeping the previous
+     * {@code generationsToKeep} versions of the file.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, int generationsToKeep)
+            throws IOException {
+        FileUtil.writeToFile(filePath, out -> write(addressBook, out), generationsToKeep);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, without closing it.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        CRC32 checksum = new CRC32();
+        DataOutputStream data = new DataOutputStream(new CheckedOutputStream(out, checksum));
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+
+        // One buffer is reused for every record, as the length of a record must be known before it is written
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+
+        List<Person> persons = addressBook.getPersonList();
+        data.writeInt(persons.size());
+        for (Person person : persons) {
+            recordBytes.reset();
+            writePerson(person, record);
+            writeRecord(recordBytes, data);
+        }
+
+        List<Appointment> appointments = addressBook.getAppointmentList();
+        data.writeInt(appointments.size());
+        for (Appointment appointment : appointments) {
+            recordBytes.reset();
+            writeAppointment(appointment, record);
+            writeRecord(recordBytes, data);
+        }
+
+        data.flush();
+        new DataOutputStream(out).writeLong(checksum.getValue());
+    }
+
+    private static void writePerson(Person person, DataOutputStream record) throws IOException {
+        record.writeByte(person.getType() == Type.DOCTOR ? DOCTOR : PATIENT);
+        writeNric(person.getNric(), record);
+        record.writeUTF(person.getName().fullName);
+        record.writeLong(person.getDoB().dateOfBirth.toEpochDay());
+        record.writeUTF(person.getPhone().value);
+    }
+
+    private static JsonAdaptedPerson readPerson(DataInputStream record) throws IOException, IllegalValueException {
+        byte type = record.readByte();
+        if (type != PATIENT && type != DOCTOR) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+        String nric = readNric(record);
+        String name = record.readUTF();
+        String dob = LocalDate.ofEpochDay(record.readLong()).toString();
+        String phone = record.readUTF();
+
+        String typeName = (type == DOCTOR ? Type.DOCTOR : Type.PATIENT).toString();
+        return new JsonAdaptedPerson(typeName, nric, name, dob, phone);
+    }
+
+    private static void writeAppointment(Appointment appointment, DataOutputStream record) throws IOException {
+        writeNric(appointment.getDoctorNric(), record);
+        writeNric(appointment.getPatientNric(), record);
+        record.writeLong(appointment.getAppointmentDateTime().appointmentDateTime
+                .toEpochSecond(ZoneOffset.UTC) / 60);
+        record.writeUTF(appointment.getAppointmentId().toString());
+    }
+
+    private static JsonAdaptedAppointment readAppointment(DataInputStream record)
+            throws IOException, IllegalValueException {
+        String doctorNric = readNric(record);
+        String patientNric = readNric(record);
+        long epochMinute = record.readLong();
+        String dateTime = new AppointmentDateTime(
+                LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC)).toString();
+        String appointmentId = record.readUTF();
+
+        return new JsonAdaptedAppointment(doctorNric, patientNric, dateTime, appointmentId);
+    }
+
+    /**
+     * Writes {@code nric} as its prefix letter, its digits as an int and its checksum letter.
+     * The letters are written as they are, so their case is kept.
+     */
+    private static void writeNric(Nric nric, DataOutputStream record) throws IOException {
+        String value = nric.nric;
+        record.writeByte(value.charAt(0));
+        record.writeInt(Integer.parseInt(value.substring(1, 1 + NRIC_DIGITS)));
+        record.writeByte(value.charAt(1 + NRIC_DIGITS));
+    }
+
+    private static String readNric(DataInputStream record) throws IOException, IllegalValueException {
+        char prefix = (char) record.readUnsignedByte();
+        int digits = record.readInt();
+        char checksum = (char) record.readUnsignedByte();
+        if (digits < 0) {
+            throw new IllegalValueException(Nric.MESSAGE_CONSTRAINTS);
+        }
+        return prefix + String.format("%0" + NRIC_DIGITS + "d", digits) + checksum;
+    }
+
+    private static void writeRecord(ByteArrayOutputStream recordBytes, DataOutputStream data) throws IOException {
+        data.writeInt(recordBytes.size());
+        recordBytes.writeTo(data);
+    }
+
+    /**
+     * Returns the next record in {@code data}, to be decoded on its own.
+     */
+    private static DataInputStream readRecord(DataInputStream data) throws IOException, IllegalValueException {
+        int length = data.readInt();
+        if (length < 0 || length > MAX_RECORD_LENGTH) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary file on the hard disk, in the format described in
+ * {@link BinaryAddressBook}. The file is smaller and faster to load than the json file of
+ * {@link JsonAddressBookStorage}, but is rewritten in full on every save.
+ * The previous versions of the file are kept next to it, and are read instead if the file itself cannot be read.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private Path filePath;
+    private final int generationsKept;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, JsonAddressBookStorage.DEFAULT_GENERATIONS_KEPT);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that keeps the previous {@code generationsKept} versions of the
+     * file.
+     */
+    public BinaryAddressBookStorage(Path filePath, int generationsKept) {
+        this.filePath = filePath;
+        this.generationsKept = generationsKept;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        return AddressBookFileGenerations.readNewestValid(filePath, generationsKept, BinaryAddressBook::read)
+                .map(ReadOnlyAddressBook.class::cast);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        BinaryAddressBook.write(addressBook, filePath, generationsKept);
+    }
+
+}
@@ -0,0 +1,444 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ *
+ * Every save of {@code AddressBookChanges} appends only the persons and appointments named in them to the journal,
+ * one json entry per line, so the cost of a save is proportional to the size of the change rather than the size
+ * of the address book. No copy of the address book is kept in memory: once the journal grows past a threshold, the
+ * snapshot and the journal are read back from disk and folded into a new snapshot on a background thread. Saving an
+ * address book without its changes rewrites the snapshot. Reading replays the journal on top of the snapshot.
+ *
+ * The snapshot has the same format as the file written by {@link JsonAddressBookStorage}, and its previous versions
+ * are kept in the same way. If the snapshot cannot be read, the journal is replayed on top of the newest previous
+ * version that can.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_SUFFIX = ".journal";
+    public static final String COMPACTING_JOURNAL_SUFFIX = ".journal.compacting";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    public static final String MESSAGE_CORRUPTED_JOURNAL = "Journal %s is corrupted at line %d.";
+
+    private static final int SNAPSHOT_GENERATIONS_KEPT = JsonAddressBookStorage.DEFAULT_GENERATIONS_KEPT;
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private boolean isStoredStateKnown = false;
+    private int journalLength = 0;
+    private Future<?> pendingCompaction = CompletableFuture.completedFuture(null);
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts its journal once it holds
+     * {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path compactingJournalPath = getCompactingJournalPath(filePath);
+        Path journalPath = getJournalPath(filePath);
+        if (!AddressBookFileGenerations.exists(filePath, SNAPSHOT_GENERATIONS_KEPT)
+                && !Files.exists(compactingJournalPath) && !Files.exists(journalPath)) {
+            if (filePath.equals(this.filePath)) {
+                resetStoredState();
+                isStoredStateKnown = true;
+            }
+            return Optional.empty();
+        }
+
+        try {
+            AddressBook snapshot = readSnapshot(filePath);
+            Map<String, JsonAdaptedPerson> persons = new LinkedHashMap<>();
+            Map<String, JsonAdaptedAppointment> appointments = new LinkedHashMap<>();
+            putRecords(snapshot, persons, appointments);
+            int replayed = replayJournal(compactingJournalPath, persons, appointments)
+                    + replayJournal(journalPath, persons, appointments);
+
+            AddressBook addressBook = replayed == 0
+                    ? snapshot
+                    : new JsonSerializableAddressBook(new ArrayList<>(persons.values()),
+                            new ArrayList<>(appointments.values())).toModelType();
+
+            if (filePath.equals(this.filePath)) {
+                resetStoredState();
+                journalLength = replayed;
+                isStoredStateKnown = true;
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            forgetStoredStateOf(filePath);
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal of " + filePath + ": " + ioe);
+            forgetStoredStateOf(filePath);
+            throw new DataLoadingException(ioe);
+        } catch (DataLoadingException dle) {
+            forgetStoredStateOf(filePath);
+            throw dle;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Without the changes made to {@code addressBook}, it is written as a new snapshot and the journal is discarded.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            StreamingJsonAddressBook.write(addressBook, filePath, SNAPSHOT_GENERATIONS_KEPT);
+            Files.deleteIfExists(getCompactingJournalPath(filePath));
+            Files.deleteIfExists(getJournalPath(filePath));
+            return;
+        }
+
+        rewriteAddressBook(addressBook);
+    }
+
+    /**
+     * Saves only the persons and appointments named in {@code changes}, so the cost of a save does not depend on
+     * the size of the address book. Falls back to {@link #saveAddressBook(ReadOnlyAddressBook)} if the address book
+     * was reset or the contents of the data file are not known.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        requireAllNonNull(addressBook, changes);
+
+        if (changes.isReset() || !isStoredStateKnown) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        collectChanges(changes.getRemovedPersons(), changes.getAddedPersons(),
+                JournaledAddressBookStorage::toKey, JsonAdaptedJournalEntry::removePerson, (key, person) ->
+                        JsonAdaptedJournalEntry.putPerson(key, new JsonAdaptedPerson(person)), entries);
+        collectChanges(changes.getRemovedAppointments(), changes.getAddedAppointments(),
+                JournaledAddressBookStorage::toKey, JsonAdaptedJournalEntry::removeAppointment,
+                (key, appointment) -> JsonAdaptedJournalEntry.putAppointment(key,
+                        new JsonAdaptedAppointment(appointment)), entries);
+
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        appendToJournal(entries);
+        compactIfNeeded();
+    }
+
+    /**
+     * Blocks until any compaction that is in progress has finished.
+     */
+    public void awaitCompaction() {
+        try {
+            pendingCompaction.get();
+        } catch (Exception e) {
+            logger.warning("Compaction of " + filePath + " failed: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Appends to {@code entries} the journal entries for the records in {@code removed} and {@code added}.
+     * Persons and appointments are immutable, so a removed record is still under the key it was journaled with.
+     * A record that was added and removed again since the last save gets a remove entry, which replaying ignores.
+     */
+    private static <T> void collectChanges(List<T> removed, List<T> added, Function<T, String> toKey,
+                                           Function<String, JsonAdaptedJournalEntry> toRemoveEntry,
+                                           BiFunction<String, T, JsonAdaptedJournalEntry> toPutEntry,
+                                           List<JsonAdaptedJournalEntry> entries) {
+        Set<String> removedKeys = new LinkedHashSet<>();
+        removed.forEach(record -> removedKeys.add(toKey.apply(record)));
+
+        List<JsonAdaptedJournalEntry> puts = new ArrayList<>();
+        for (T record : added) {
+            String key = toKey.apply(record);
+            removedKeys.remove(key);
+            puts.add(toPutEntry.apply(key, record));
+        }
+
+        removedKeys.forEach(key -> entries.add(toRemoveEntry.apply(key)));
+        entries.addAll(puts);
+    }
+
+    /**
+     * Appends {@code entries} to the journal, one json object per line.
+     * The entries are forced to disk before this returns.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+
+        Path journalPath = getJournalPath(filePath);
+        FileUtil.createParentDirsOfFile(journalPath);
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+
+        journalLength += entries.size();
+    }
+
+    private void compactIfNeeded() throws IOException {
+        if (journalLength >= compactionThreshold && pendingCompaction.isDone()) {
+            compact();
+        }
+    }
+
+    /**
+     * Folds the journal into a new snapshot on the background thread.
+     * The journal is first moved aside so that saves made while the snapshot is being written go to a fresh journal.
+     * The background thread then reads the snapshot and the moved journal back from disk, so no copy of the address
+     * book has to be kept in memory between saves. If that fails, the moved journal is kept, and is replayed on the
+     * next read and folded in by the next compaction.
+     */
+    private void compact() throws IOException {
+        Path journalPath = getJournalPath(filePath);
+        Path compactingJournalPath = getCompactingJournalPath(filePath);
+        if (Files.exists(compactingJournalPath)) {
+            // A previous compaction did not finish, so its journal must be kept in front of the current one.
+            Files.write(compactingJournalPath, Files.readAllBytes(journalPath), StandardOpenOption.APPEND);
+            Files.delete(journalPath);
+        } else {
+            Files.move(journalPath, compactingJournalPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        journalLength = 0;
+
+        pendingCompaction = compactionExecutor.submit(() -> {
+            try {
+                Map<String, JsonAdaptedPerson> persons = new LinkedHashMap<>();
+                Map<String, JsonAdaptedAppointment> appointments = new LinkedHashMap<>();
+                putRecords(readSnapshot(filePath), persons, appointments);
+                replayJournal(compactingJournalPath, persons, appointments);
+                StreamingJsonAddressBook.write(persons.values().iterator(), appointments.values().iterator(),
+                        filePath, SNAPSHOT_GENERATIONS_KEPT);
+                Files.deleteIfExists(compactingJournalPath);
+            } catch (IOException | IllegalValueException | DataLoadingException e) {
+                logger.warning("Failed to compact journal of " + filePath + ": " + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+    /**
+     * Replaces the snapshot with {@code addressBook} and discards the journal.
+     * Used when the changes made to the address book are not known, or the contents of the data file are not known,
+     * e.g. when it could not be read.
+     */
+    private void rewriteAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        awaitCompaction();
+        StreamingJsonAddressBook.write(addressBook, filePath, SNAPSHOT_GENERATIONS_KEPT);
+        Files.deleteIfExists(getCompactingJournalPath(filePath));
+        Files.deleteIfExists(getJournalPath(filePath));
+
+        resetStoredState();
+        isStoredStateKnown = true;
+    }
+
+    /**
+     * Marks the contents of the data file as unknown if {@code filePath} is this storage's own file,
+     * so that the next save rewrites it in full.
+     */
+    private void forgetStoredStateOf(Path filePath) {
+        if (filePath.equals(this.filePath)) {
+            resetStoredState();
+            isStoredStateKnown = false;
+        }
+    }
+
+    private void resetStoredState() {
+        journalLength = 0;
+    }
+
+    /**
+     * Returns the newest readable version of the snapshot at {@code filePath}, or an empty address book if there
+     * is none.
+     */
+    private static AddressBook readSnapshot(Path filePath) throws DataLoadingException {
+        return AddressBookFileGenerations.readNewestValid(filePath, SNAPSHOT_GENERATIONS_KEPT,
+                StreamingJsonAddressBook::read).orElseGet(AddressBook::new);
+    }
+
+    /**
+     * Puts every person and appointment of {@code snapshot} into {@code persons} and {@code appointments}, under the
+     * keys the journal refers to them by.
+     */
+    private static void putRecords(ReadOnlyAddressBook snapshot, Map<String, JsonAdaptedPerson> persons,
+                                   Map<String, JsonAdaptedAppointment> appointments) {
+        snapshot.getPersonList().forEach(person -> persons.put(toKey(person), new JsonAdaptedPerson(person)));
+        snapshot.getAppointmentList().forEach(appointment ->
+                appointments.put(toKey(appointment), new JsonAdaptedAppointment(appointment)));
+    }
+
+    /**
+     * Applies every entry of the journal at {@code journalPath} to {@code persons} and {@code appointments}.
+     * A final line that was only partly written, as happens if the application is killed during a save, is cut
+     * from the journal so that later entries are appended after the last complete one.
+     *
+     * @return the number of entries applied.
+     */
+    private static int replayJournal(Path journalPath, Map<String, JsonAdaptedPerson> persons,
+                                     Map<String, JsonAdaptedAppointment> appointments)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+
+        String[] lines = FileUtil.readFromFile(journalPath).split("\n", -1);
+        int replayed = 0;
+        long validLength = 0;
+        for (int i = 0; i < lines.length; i++) {
+            boolean isLastLine = i == lines.length - 1;
+            if (isLastLine && lines[i].isEmpty()) {
+                break;
+            }
+
+            JsonAdaptedJournalEntry entry = null;
+            try {
+                entry = JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalEntry.class);
+                entry.validate();
+            } catch (IOException | IllegalValueException e) {
+                if (!isLastLine) {
+                    throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_JOURNAL, journalPath, i + 1));
+                }
+            }
+
+            // Complete entries always end with a newline, so a last line without one was cut short.
+            if (isLastLine) {
+                logger.warning("Dropping partly written entry at the end of " + journalPath);
+                try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                    channel.truncate(validLength);
+                }
+                break;
+            }
+
+            apply(entry, persons, appointments);
+            validLength += lines[i].getBytes(StandardCharsets.UTF_8).length + 1;
+            replayed++;
+        }
+        return replayed;
+    }
+
+    private static void apply(JsonAdaptedJournalEntry entry, Map<String, JsonAdaptedPerson> persons,
+                              Map<String, JsonAdaptedAppointment> appointments) {
+        switch (entry.getOperation()) {
+        case PUT_PERSON:
+            persons.put(entry.getKey(), entry.getPerson());
+            break;
+        case REMOVE_PERSON:
+            persons.remove(entry.getKey());
+            break;
+        case PUT_APPOINTMENT:
+            appointments.put(entry.getKey(), entry.getAppointment());
+            break;
+        case REMOVE_APPOINTMENT:
+            appointments.remove(entry.getKey());
+            break;
+        default:
+            throw new AssertionError("Unknown journal operation " + entry.getOperation());
+        }
+    }
+
+    private static String toKey(Person person) {
+        return person.getNric().nric;
+    }
+
+    private static String toKey(Appointment appointment) {
+        return appointment.getDoctorNric().nric + " " + appointment.getPatientNric().nric + " "
+                + appointment.getAppointmentDateTime();
+    }
+
+    static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    static Path getCompactingJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTING_JOURNAL_SUFFIX);
+    }
+
+}
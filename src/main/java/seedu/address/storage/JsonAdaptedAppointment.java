@@ -58,7 +58,7 @@ class JsonAdaptedAppointment {
         if (!Nric.isValidNric(doctorNric)) {
             throw new IllegalValueException(Nric.MESSAGE_CONSTRAINTS);
         }
-        final Nric modelDoctorNric = new Nric(doctorNric);
+        final Nric modelDoctorNric = Nric.of(doctorNric);
 
         if (patientNric == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Nric.class.getSimpleName()));
@@ -66,7 +66,7 @@ class JsonAdaptedAppointment {
         if (!Nric.isValidNric(patientNric)) {
             throw new IllegalValueException(Nric.MESSAGE_CONSTRAINTS);
         }
-        final Nric modelPatientNric = new Nric(patientNric);
+        final Nric modelPatientNric = Nric.of(patientNric);
 
         if (appointmentDateTime == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
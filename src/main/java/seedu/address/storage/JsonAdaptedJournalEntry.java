@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of a single mutation recorded in the address book journal.
+ * An entry either puts a record under its identity key, replacing any record already stored under that key,
+ * or removes the record stored under its identity key.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    /**
+     * Kinds of mutation that can be recorded in the journal.
+     */
+    enum Operation {
+        PUT_PERSON, REMOVE_PERSON, PUT_APPOINTMENT, REMOVE_APPOINTMENT
+    }
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is missing its operation, key or record.";
+
+    private final Operation operation;
+    private final String key;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedAppointment appointment;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") Operation operation,
+                                   @JsonProperty("key") String key,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("appointment") JsonAdaptedAppointment appointment) {
+        this.operation = operation;
+        this.key = key;
+        this.person = person;
+        this.appointment = appointment;
+    }
+
+    public static JsonAdaptedJournalEntry putPerson(String key, JsonAdaptedPerson person) {
+        return new JsonAdaptedJournalEntry(Operation.PUT_PERSON, key, person, null);
+    }
+
+    public static JsonAdaptedJournalEntry removePerson(String key) {
+        return new JsonAdaptedJournalEntry(Operation.REMOVE_PERSON, key, null, null);
+    }
+
+    public static JsonAdaptedJournalEntry putAppointment(String key, JsonAdaptedAppointment appointment) {
+        return new JsonAdaptedJournalEntry(Operation.PUT_APPOINTMENT, key, null, appointment);
+    }
+
+    public static JsonAdaptedJournalEntry removeAppointment(String key) {
+        return new JsonAdaptedJournalEntry(Operation.REMOVE_APPOINTMENT, key, null, null);
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public JsonAdaptedPerson getPerson() {
+        return person;
+    }
+
+    public JsonAdaptedAppointment getAppointment() {
+        return appointment;
+    }
+
+    /**
+     * Checks that this entry carries everything its operation needs.
+     *
+     * @throws IllegalValueException if the operation, the key or the record is missing.
+     */
+    public void validate() throws IllegalValueException {
+        if (operation == null || key == null
+                || (operation == Operation.PUT_PERSON && person == null)
+                || (operation == Operation.PUT_APPOINTMENT && appointment == null)) {
+            throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+        }
+    }
+
+}
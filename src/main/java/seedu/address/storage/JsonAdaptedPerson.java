@@ -66,7 +66,7 @@ class JsonAdaptedPerson {
         if (!Nric.isValidNric(nric)) {
             throw new IllegalValueException(Nric.MESSAGE_CONSTRAINTS);
         }
-        final Nric modelNric = new Nric(nric);
+        final Nric modelNric = Nric.of(nric);
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
@@ -5,26 +5,31 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The previous versions of the file are kept next to it, and are read instead if the file itself cannot be read.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+    public static final int DEFAULT_GENERATIONS_KEPT = 2;
 
     private Path filePath;
+    private final int generationsKept;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_GENERATIONS_KEPT);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that keeps the previous {@code generationsKept} versions of the file.
+     */
+    public JsonAddressBookStorage(Path filePath, int generationsKept) {
         this.filePath = filePath;
+        this.generationsKept = generationsKept;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,18 +50,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
-        }
+        return AddressBookFileGenerations.readNewestValid(filePath, generationsKept, StreamingJsonAddressBook::read)
+                .map(ReadOnlyAddressBook.class::cast);
     }
 
     @Override
@@ -73,8 +68,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        StreamingJsonAddressBook.write(addressBook, filePath, generationsKept);
     }
 
 }
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.IdUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.SequentialIdAllocator;
+
+/**
+ * A class to access the highest id number reserved for each entity, stored in the hard disk as a json file.
+ */
+public class JsonIdHighWaterMarkStorage implements SequentialIdAllocator.HighWaterMarkStore {
+
+    public static final String FILE_SUFFIX = ".ids.json";
+
+    private final Path filePath;
+    private final Map<IdUtil.Entities, Long> highWaterMarks = new EnumMap<>(IdUtil.Entities.class);
+
+    public JsonIdHighWaterMarkStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the storage of the high water marks of the ids in the data file at {@code addressBookFilePath}.
+     */
+    public static JsonIdHighWaterMarkStorage forAddressBook(Path addressBookFilePath) {
+        return new JsonIdHighWaterMarkStorage(
+                addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + FILE_SUFFIX));
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the high water marks in the file, or an empty map if there is no file.
+     *
+     * @throws DataLoadingException if the file format is not as expected.
+     */
+    public synchronized Map<IdUtil.Entities, Long> readHighWaterMarks() throws DataLoadingException {
+        Optional<JsonSerializableIdHighWaterMarks> stored = JsonUtil.readJsonFile(filePath,
+                JsonSerializableIdHighWaterMarks.class);
+        highWaterMarks.clear();
+        stored.ifPresent(marks -> highWaterMarks.putAll(marks.getHighWaterMarks()));
+        return new EnumMap<>(highWaterMarks);
+    }
+
+    @Override
+    public synchronized void saveHighWaterMark(IdUtil.Entities entity, long highWaterMark) throws IOException {
+        requireNonNull(entity);
+        highWaterMarks.merge(entity, highWaterMark, Math::max);
+        JsonUtil.saveJsonFile(new JsonSerializableIdHighWaterMarks(highWaterMarks), filePath);
+    }
+}
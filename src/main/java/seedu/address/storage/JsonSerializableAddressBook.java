@@ -11,8 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.appointment.Appointment;
-import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -47,32 +45,20 @@ class JsonSerializableAddressBook {
                         .collect(Collectors.toList()));
     }
 
+    List<JsonAdaptedAppointment> getAppointments() {
+        return appointments;
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-
-        // Add person models to the address book
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-        }
-
-        // Add appointment models to the address book
-        for (JsonAdaptedAppointment jsonAdaptedAppointment : appointments) {
-            Appointment appointment = jsonAdaptedAppointment.toModelType();
-            if (addressBook.hasAppointment(appointment)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_APPOINTMENTS);
-            }
-            addressBook.addAppointment(appointment);
-        }
-        return addressBook;
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        assembler.addPersons(persons);
+        assembler.addAppointments(appointments);
+        return assembler.toAddressBook();
     }
 
 }
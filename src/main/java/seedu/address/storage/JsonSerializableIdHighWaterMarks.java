@@ -0,0 +1,36 @@
+package seedu.address.storage;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.util.IdUtil;
+
+/**
+ * The highest id number reserved for each entity, serializable to JSON format.
+ */
+class JsonSerializableIdHighWaterMarks {
+
+    private final Map<IdUtil.Entities, Long> highWaterMarks = new EnumMap<>(IdUtil.Entities.class);
+
+    /**
+     * Constructs a {@code JsonSerializableIdHighWaterMarks} with the given high water marks.
+     */
+    @JsonCreator
+    public JsonSerializableIdHighWaterMarks(
+            @JsonProperty("highWaterMarks") Map<IdUtil.Entities, Long> highWaterMarks) {
+        if (highWaterMarks != null) {
+            highWaterMarks.forEach((entity, highWaterMark) -> {
+                if (entity != null && highWaterMark != null) {
+                    this.highWaterMarks.put(entity, highWaterMark);
+                }
+            });
+        }
+    }
+
+    public Map<IdUtil.Entities, Long> getHighWaterMarks() {
+        return new EnumMap<>(highWaterMarks);
+    }
+}
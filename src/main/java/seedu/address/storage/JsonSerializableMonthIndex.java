@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.person.Nric;
+
+/**
+ * An immutable index of the NRICs of the doctors and patients with appointments in each month, and of the ids of
+ * the appointments in each month, that is serializable to JSON format.
+ */
+class JsonSerializableMonthIndex {
+
+    public static final String MESSAGE_INVALID_MONTH = "Month index contains an invalid month: %s";
+
+    private final Map<String, List<String>> nricsByMonth = new TreeMap<>();
+    // Null if the index was written before it held ids
+    private final Map<String, List<String>> idsByMonth;
+
+    /**
+     * Constructs a {@code JsonSerializableMonthIndex} with the given NRICs and ids of each month.
+     */
+    @JsonCreator
+    public JsonSerializableMonthIndex(@JsonProperty("nricsByMonth") Map<String, List<String>> nricsByMonth,
+                                      @JsonProperty("idsByMonth") Map<String, List<String>> idsByMonth) {
+        if (nricsByMonth != null) {
+            this.nricsByMonth.putAll(nricsByMonth);
+        }
+        this.idsByMonth = idsByMonth == null ? null : new TreeMap<>(idsByMonth);
+    }
+
+    /**
+     * Converts a given index into this class for Jackson use.
+     */
+    public JsonSerializableMonthIndex(NavigableMap<YearMonth, Set<String>> source,
+                                      Map<AppointmentId, YearMonth> monthsById) {
+        source.forEach((month, nrics) -> nricsByMonth.put(month.toString(), new ArrayList<>(nrics)));
+        idsByMonth = new TreeMap<>();
+        monthsById.forEach((id, month) ->
+                idsByMonth.computeIfAbsent(month.toString(), unused -> new ArrayList<>()).add(id.toString()));
+    }
+
+    /**
+     * Returns true if this index holds the ids of each month, which indexes written by earlier versions do not.
+     */
+    public boolean hasIds() {
+        return idsByMonth != null;
+    }
+
+    /**
+     * Converts this index into a map from each month to the NRICs in it.
+     *
+     * @throws IllegalValueException if a month or an NRIC is invalid.
+     */
+    public Map<YearMonth, Set<String>> toIndex() throws IllegalValueException {
+        Map<YearMonth, Set<String>> index = new TreeMap<>();
+        for (Map.Entry<String, List<String>> entry : nricsByMonth.entrySet()) {
+            YearMonth month = toMonth(entry.getKey());
+            if (entry.getValue() == null || !entry.getValue().stream().allMatch(Nric::isValidNric)) {
+                throw new IllegalValueException(Nric.MESSAGE_CONSTRAINTS);
+            }
+            index.put(month, new HashSet<>(entry.getValue()));
+        }
+        return index;
+    }
+
+    /**
+     * Converts this index into a map from each appointment id to the month it is in. Empty if {@link #hasIds()} is
+     * false.
+     *
+     * @throws IllegalValueException if a month or an id is invalid.
+     */
+    public Map<AppointmentId, YearMonth> toMonthsById() throws IllegalValueException {
+        Map<AppointmentId, YearMonth> monthsById = new HashMap<>();
+        if (idsByMonth == null) {
+            return monthsById;
+        }
+        for (Map.Entry<String, List<String>> entry : idsByMonth.entrySet()) {
+            YearMonth month = toMonth(entry.getKey());
+            if (entry.getValue() == null || !entry.getValue().stream().allMatch(AppointmentId::isValidApptId)) {
+                throw new IllegalValueException(AppointmentId.MESSAGE_CONSTRAINTS);
+            }
+            entry.getValue().forEach(id -> monthsById.put(new AppointmentId(id), month));
+        }
+        return monthsById;
+    }
+
+    private static YearMonth toMonth(String month) throws IllegalValueException {
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_MONTH, month));
+        }
+    }
+}
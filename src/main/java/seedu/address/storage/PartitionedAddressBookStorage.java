@@ -0,0 +1,758 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.PastAppointmentLoader;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDateTime;
+import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * A storage that keeps only today's and future appointments in the data file, and moves past appointments into
+ * one json file per month in a folder next to it (e.g. {@code addressbook.json.months/2024-03.json}).
+ *
+ * Reading the address book reads the data file alone, so startup time and memory use follow the number of current
+ * appointments rather than the whole history. Past appointments still in the data file, because they were upcoming
+ * when it was saved, are moved into their months as it is read. The months are then loaded through
+ * {@link PastAppointmentLoader} when a query reaches into them. An index of the NRICs and appointment ids in each
+ * month is kept in the folder, so that a query for a doctor, patient or id only loads the months it is in.
+ *
+ * Loaded appointments are saved back to their months like any other appointment, but loading them is not itself a
+ * change. A month file is only rewritten when an appointment saved to it has been changed or removed, or a new one
+ * belongs in it. Past appointments that were never loaded are left alone, unless the address book is replaced as a
+ * whole. Removing a person or changing their NRIC loads their past appointments first, so that none are left behind.
+ *
+ * Months further back than an archive horizon are moved into an {@link AppointmentArchive} in the same folder when
+ * the address book is read. Archived months are compressed, and are never written again. They are loaded in the same
+ * way as the other months, but the appointments in them are read-only.
+ */
+public class PartitionedAddressBookStorage implements AddressBookStorage, PastAppointmentLoader {
+
+    public static final String MONTHS_FOLDER_SUFFIX = ".months";
+    public static final String INDEX_FILE_NAME = "index.json";
+
+    private static final String MONTH_FILE_SUFFIX = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(PartitionedAddressBookStorage.class);
+
+    private final AddressBookStorage currentStorage;
+    private final Path monthsFolder;
+    private final AppointmentDateTime windowStart;
+    private final int archiveHorizonMonths;
+    private final AppointmentArchive archive;
+
+    // NRICs, in upper case, of the doctors and patients with appointments in each month file
+    private final NavigableMap<YearMonth, Set<String>> nricsByMonth = new TreeMap<>();
+    // Month of each appointment in a month file or archive
+    private final Map<AppointmentId, YearMonth> monthsById = new HashMap<>();
+    private final Set<YearMonth> loadedMonths = new HashSet<>();
+    private final Set<YearMonth> archivedMonths = new HashSet<>();
+    private final Set<Appointment> archivedAppointments = Collections.newSetFromMap(new IdentityHashMap<>());
+    // Past appointments held in memory, with where they were last saved
+    private final Map<Appointment, SavedAppointment> savedPastAppointments = new IdentityHashMap<>();
+    private boolean isDiscardRequested = false;
+    // Whether the data file may still hold past appointments, because moving them out of it failed
+    private boolean hasPastAppointmentsInDataFile = false;
+
+    /**
+     * Creates a {@code PartitionedAddressBookStorage} that keeps today's and future appointments, and every person,
+     * in {@code currentStorage}.
+     */
+    public PartitionedAddressBookStorage(AddressBookStorage currentStorage) {
+        this(currentStorage, 0);
+    }
+
+    /**
+     * Creates a {@code PartitionedAddressBookStorage} that keeps today's and future appointments, and every person,
+     * in {@code currentStorage}, and archives the months more than {@code archiveHorizonMonths} months before the
+     * current one. Nothing is archived if {@code archiveHorizonMonths} is not positive.
+     */
+    public PartitionedAddressBookStorage(AddressBookStorage currentStorage, int archiveHorizonMonths) {
+        this(currentStorage, LocalDate.now().atStartOfDay(), archiveHorizonMonths);
+    }
+
+    /**
+     * Creates a {@code PartitionedAddressBookStorage} that treats appointments before {@code windowStart} as past,
+     * and archives the months more than {@code archiveHorizonMonths} months before the month of {@code windowStart}.
+     */
+    PartitionedAddressBookStorage(AddressBookStorage currentStorage, LocalDateTime windowStart,
+                                  int archiveHorizonMonths) {
+        requireNonNull(currentStorage);
+        this.currentStorage = currentStorage;
+        this.windowStart = new AppointmentDateTime(windowStart);
+        this.archiveHorizonMonths = archiveHorizonMonths;
+        Path filePath = currentStorage.getAddressBookFilePath();
+        monthsFolder = filePath.resolveSibling(filePath.getFileName() + MONTHS_FOLDER_SUFFIX);
+        archive = new AppointmentArchive(monthsFolder);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return currentStorage.getAddressBookFilePath();
+    }
+
+    public Path getMonthsFolder() {
+        return monthsFolder;
+    }
+
+    // ================ Reading ===============================================================================
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the current appointments from the data file at {@code filePath}. The months are only used with the
+     * storage's own data file; any other file is read in full.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return currentStorage.readAddressBook(filePath);
+        }
+
+        Optional<ReadOnlyAddressBook> addressBookOptional = currentStorage.readAddressBook();
+        readArchivedMonths();
+        readIndex();
+        loadedMonths.clear();
+        archivedAppointments.clear();
+        savedPastAppointments.clear();
+        isDiscardRequested = false;
+        hasPastAppointmentsInDataFile = false;
+        if (!addressBookOptional.isPresent()) {
+            return addressBookOptional;
+        }
+
+        ReadOnlyAddressBook addressBook = addressBookOptional.get();
+        Map<YearMonth, List<Appointment>> pastAppointments = groupByMonth(addressBook.getAppointmentList());
+        if (!pastAppointments.isEmpty()) {
+            try {
+                saveMonths(Collections.emptyMap(), pastAppointments);
+                ReadOnlyAddressBook current = getCurrentPart(addressBook);
+                currentStorage.saveAddressBook(current);
+                savedPastAppointments.clear();
+                addressBook = current;
+            } catch (IOException ioe) {
+                // They stay in the address book, and are moved by a later save
+                hasPastAppointmentsInDataFile = true;
+                logger.warning("Could not move past appointments out of " + filePath + ": " + ioe);
+            }
+        }
+        archiveOldMonths();
+        return Optional.of(addressBook);
+    }
+
+    private void readArchivedMonths() {
+        archivedMonths.clear();
+        try {
+            archivedMonths.addAll(archive.getMonths());
+        } catch (IOException ioe) {
+            logger.warning("Could not list the archived months in " + monthsFolder + ": " + ioe);
+        }
+    }
+
+    /**
+     * Archives the months before the archive horizon that have not been archived yet. A month is only archived
+     * once, so appointments saved to an archived month afterwards stay in its month file.
+     * A month that cannot be archived is left as it is, and is archived on a later read. If the month file cannot be
+     * deleted once the archive is written, the appointments it shares with the archive are dropped when it is loaded.
+     */
+    private void archiveOldMonths() {
+        if (archiveHorizonMonths <= 0) {
+            return;
+        }
+
+        YearMonth horizon = YearMonth.from(windowStart.appointmentDateTime).minusMonths(archiveHorizonMonths);
+        for (YearMonth month : nricsByMonth.headMap(horizon, false).keySet()) {
+            if (archivedMonths.contains(month)) {
+                continue;
+            }
+            try {
+                List<Appointment> appointments = readMonth(month);
+                if (appointments.isEmpty()) {
+                    continue;
+                }
+                archive.archive(month, appointments);
+                archivedMonths.add(month);
+                Files.deleteIfExists(getMonthPath(month));
+                logger.info("Archived past appointments of " + month);
+            } catch (IOException ioe) {
+                logger.warning("Could not archive past appointments of " + month + ": " + ioe);
+            }
+        }
+    }
+
+    /**
+     * Reads the index of the months, or rebuilds it from the month files if it cannot be read or does not hold the
+     * appointment ids yet.
+     */
+    private void readIndex() {
+        nricsByMonth.clear();
+        monthsById.clear();
+        try {
+            Optional<JsonSerializableMonthIndex> index = JsonUtil.readJsonFile(getIndexPath(),
+                    JsonSerializableMonthIndex.class);
+            if (index.isPresent() && index.get().hasIds()) {
+                nricsByMonth.putAll(index.get().toIndex());
+                monthsById.putAll(index.get().toMonthsById());
+                return;
+            }
+        } catch (DataLoadingException | IllegalValueException e) {
+            logger.warning("Month index " + getIndexPath() + " could not be read, so it will be rebuilt: " + e);
+        }
+        rebuildIndex();
+    }
+
+    private void rebuildIndex() {
+        nricsByMonth.clear();
+        monthsById.clear();
+        if (!Files.isDirectory(monthsFolder)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> monthFiles = Files.newDirectoryStream(monthsFolder, "*" + MONTH_FILE_SUFFIX)) {
+            for (Path monthFile : monthFiles) {
+                Optional<YearMonth> month = toMonth(monthFile);
+                if (!month.isPresent()) {
+                    continue;
+                }
+                try {
+                    List<Appointment> appointments = readMonth(month.get());
+                    nricsByMonth.put(month.get(), getNrics(appointments));
+                    putMonths(appointments, month.get());
+                } catch (IOException ioe) {
+                    logger.warning("Skipping unreadable month file " + monthFile + ": " + ioe);
+                }
+            }
+            for (YearMonth month : archivedMonths) {
+                try {
+                    List<Appointment> appointments = archive.read(month);
+                    nricsByMonth.computeIfAbsent(month, unused -> new HashSet<>()).addAll(getNrics(appointments));
+                    putMonths(appointments, month);
+                } catch (IOException ioe) {
+                    logger.warning("Skipping unreadable archive of " + month + ": " + ioe);
+                }
+            }
+            writeIndex();
+        } catch (IOException ioe) {
+            logger.warning("Could not rebuild the month index in " + monthsFolder + ": " + ioe);
+        }
+    }
+
+    // ================ Loading past appointments =============================================================
+
+    @Override
+    public synchronized List<Appointment> loadMonthsWithDoctor(Nric doctorNric) {
+        requireNonNull(doctorNric);
+        return loadMonths(nrics -> nrics.contains(toKey(doctorNric)), nricsByMonth);
+    }
+
+    @Override
+    public synchronized List<Appointment> loadMonthsWithPatient(Nric patientNric) {
+        requireNonNull(patientNric);
+        return loadMonths(nrics -> nrics.contains(toKey(patientNric)), nricsByMonth);
+    }
+
+    @Override
+    public synchronized List<Appointment> loadMonthsBetween(AppointmentDateTime from, AppointmentDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        if (from.compareTo(to) > 0) {
+            return Collections.emptyList();
+        }
+        return loadMonths(nrics -> true, nricsByMonth.subMap(YearMonth.from(from.appointmentDateTime), true,
+                YearMonth.from(to.appointmentDateTime), true));
+    }
+
+    @Override
+    public synchronized List<Appointment> loadMonthWithId(AppointmentId appointmentId) {
+        requireNonNull(appointmentId);
+        YearMonth month = monthsById.get(appointmentId);
+        if (month == null) {
+            return Collections.emptyList();
+        }
+        return loadMonths(nrics -> true, Collections.singletonMap(month, nricsByMonth.get(month)));
+    }
+
+    @Override
+    public synchronized boolean isArchived(Appointment appointment) {
+        return archivedAppointments.contains(appointment);
+    }
+
+    @Override
+    public synchronized void discardUnloadedMonths() {
+        loadedMonths.addAll(nricsByMonth.keySet());
+        archivedAppointments.clear();
+        isDiscardRequested = true;
+    }
+
+    /**
+     * Returns the ids of the appointments in every month and archive, without loading them.
+     * A month that cannot be read is skipped.
+     */
+    public synchronized List<AppointmentId> readPastAppointmentIds() {
+        Set<YearMonth> months = new TreeSet<>(nricsByMonth.keySet());
+        months.addAll(archivedMonths);
+        List<AppointmentId> ids = new ArrayList<>();
+        for (YearMonth month : months) {
+            try {
+                List<Appointment> archived = archivedMonths.contains(month)
+                        ? archive.read(month)
+                        : Collections.emptyList();
+                archived.forEach(appointment -> ids.add(appointment.getAppointmentId()));
+                readMonth(month).forEach(appointment -> ids.add(appointment.getAppointmentId()));
+            } catch (IOException ioe) {
+                logger.warning("Could not read the appointment ids of " + month + ": " + ioe);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Loads the months in {@code months} whose NRICs match {@code predicate} and that have not been loaded yet.
+     * A month that cannot be read is skipped, and is left as it is on disk.
+     */
+    private List<Appointment> loadMonths(Predicate<Set<String>> predicate, Map<YearMonth, Set<String>> months) {
+        List<Appointment> loaded = new ArrayList<>();
+        months.forEach((month, nrics) -> {
+            if (loadedMonths.contains(month) || !predicate.test(nrics)) {
+                return;
+            }
+            try {
+                List<Appointment> archived = archivedMonths.contains(month)
+                        ? archive.read(month)
+                        : Collections.emptyList();
+                loaded.addAll(archived);
+                loaded.addAll(withoutArchived(month, archived, readMonth(month)));
+                archivedAppointments.addAll(archived);
+                loadedMonths.add(month);
+                logger.fine("Loaded past appointments of " + month);
+            } catch (IOException ioe) {
+                logger.warning("Could not load past appointments of " + month + ": " + ioe);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * Returns the appointments in {@code stored}, the month file of {@code month}, that are not also in
+     * {@code archived}. Archiving writes the archive before deleting the month file, so a month file left behind by
+     * an interrupted archiving holds appointments that are already archived. They are removed from the month file.
+     */
+    private List<Appointment> withoutArchived(YearMonth month, List<Appointment> archived,
+                                              List<Appointment> stored) {
+        if (archived.isEmpty() || stored.isEmpty()) {
+            return stored;
+        }
+
+        Set<AppointmentId> archivedIds = archived.stream().map(Appointment::getAppointmentId)
+                .collect(Collectors.toSet());
+        List<Appointment> remaining = stored.stream()
+                .filter(appointment -> !archivedIds.contains(appointment.getAppointmentId()))
+                .collect(Collectors.toList());
+        if (remaining.size() == stored.size()) {
+            return stored;
+        }
+
+        try {
+            if (remaining.isEmpty()) {
+                Files.deleteIfExists(getMonthPath(month));
+            } else {
+                writeMonth(month, remaining);
+            }
+            logger.info("Removed the archived appointments left in the month file of " + month);
+        } catch (IOException ioe) {
+            // They are filtered out again the next time the month is loaded
+            logger.warning("Could not remove the archived appointments left in the month file of " + month + ": "
+                    + ioe);
+        }
+        return remaining;
+    }
+
+    // ================ Saving ================================================================================
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        savePastAppointments(addressBook);
+        currentStorage.saveAddressBook(getCurrentPart(addressBook));
+        hasPastAppointmentsInDataFile = false;
+    }
+
+    /**
+     * Saves {@code addressBook} in full to the data file at {@code filePath}. The months are only used with the
+     * storage's own data file.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+        } else {
+            currentStorage.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * Saves the months touched by {@code changes}, then passes the changes to the persons and current appointments
+     * on to the storage of the data file. Appointments loaded from months are only noted as held in memory, as they
+     * are already saved. If the address book was replaced after {@link #discardUnloadedMonths()}, every month is
+     * deleted first. If past appointments could not be moved out of the data file when it was read, it is saved in
+     * full instead.
+     */
+    @Override
+    public synchronized void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+        if (changes.isReset() || hasPastAppointmentsInDataFile) {
+            if (changes.isReset() && isDiscardRequested) {
+                deleteAllMonths();
+            }
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        for (Appointment appointment : changes.getLoadedAppointments()) {
+            if (isPast(appointment) && !archivedAppointments.contains(appointment)) {
+                savedPastAppointments.putIfAbsent(appointment,
+                        new SavedAppointment(toKey(appointment), getMonth(appointment)));
+            }
+        }
+        Map<YearMonth, List<Appointment>> removed = new HashMap<>();
+        for (Appointment appointment : changes.getRemovedAppointments()) {
+            SavedAppointment saved = savedPastAppointments.get(appointment);
+            if (saved != null) {
+                removed.computeIfAbsent(saved.month, unused -> new ArrayList<>()).add(appointment);
+            }
+        }
+        saveMonths(removed, groupByMonth(changes.getAddedAppointments().stream()
+                .filter(appointment -> !archivedAppointments.contains(appointment))
+                .collect(Collectors.toList())));
+        AddressBookChanges currentChanges = changes.withAppointmentsMatching(appointment -> !isPast(appointment));
+        if (!currentChanges.isEmpty()) {
+            currentStorage.saveAddressBookChanges(getCurrentPart(addressBook), currentChanges);
+        }
+    }
+
+    /**
+     * Brings the month files up to date with the past appointments in {@code addressBook}.
+     * Appointments are compared with those last saved by identity and by key.
+     * Archived appointments are left out, as they are already saved in the archive.
+     */
+    private void savePastAppointments(ReadOnlyAddressBook addressBook) throws IOException {
+        Map<Appointment, String> pastKeys = new IdentityHashMap<>();
+        addressBook.getAppointmentList().stream()
+                .filter(appointment -> isPast(appointment) && !archivedAppointments.contains(appointment))
+                .forEach(appointment -> pastKeys.put(appointment, toKey(appointment)));
+
+        Map<YearMonth, List<Appointment>> removed = new HashMap<>();
+        savedPastAppointments.forEach((appointment, saved) -> {
+            if (!saved.key.equals(pastKeys.get(appointment))) {
+                removed.computeIfAbsent(saved.month, unused -> new ArrayList<>()).add(appointment);
+            }
+        });
+        Map<YearMonth, List<Appointment>> added = groupByMonth(pastKeys.keySet().stream()
+                .filter(appointment -> {
+                    SavedAppointment saved = savedPastAppointments.get(appointment);
+                    return saved == null || !saved.key.equals(pastKeys.get(appointment));
+                })
+                .collect(Collectors.toList()));
+
+        saveMonths(removed, added);
+    }
+
+    /**
+     * Removes the appointments in {@code removed} from the months they were saved to, and adds those in
+     * {@code added} to their months. The index is written before the months, with the NRICs and ids of both the old
+     * and the new appointments, so that it never misses a month even if saving stops halfway.
+     */
+    private void saveMonths(Map<YearMonth, List<Appointment>> removed, Map<YearMonth, List<Appointment>> added)
+            throws IOException {
+        Set<YearMonth> months = new HashSet<>(removed.keySet());
+        months.addAll(added.keySet());
+        if (months.isEmpty()) {
+            return;
+        }
+
+        boolean isIndexChanged = false;
+        for (Map.Entry<YearMonth, List<Appointment>> entry : added.entrySet()) {
+            isIndexChanged |= nricsByMonth.computeIfAbsent(entry.getKey(), unused -> new HashSet<>())
+                    .addAll(getNrics(entry.getValue()));
+            isIndexChanged |= putMonths(entry.getValue(), entry.getKey());
+        }
+        if (isIndexChanged) {
+            writeIndex();
+        }
+
+        IOException failure = null;
+        for (YearMonth month : months) {
+            try {
+                isIndexChanged |= saveMonth(month, removed.getOrDefault(month, Collections.emptyList()),
+                        added.getOrDefault(month, Collections.emptyList()));
+            } catch (IOException ioe) {
+                failure = ioe;
+                break;
+            }
+        }
+        if (isIndexChanged) {
+            writeIndex();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Saves the changes to a single month.
+     *
+     * @return true if the month file was changed.
+     */
+    private boolean saveMonth(YearMonth month, List<Appointment> removed, List<Appointment> added)
+            throws IOException {
+        List<Appointment> stored = readMonth(month);
+
+        Set<String> replacedKeys = new HashSet<>();
+        removed.forEach(appointment -> replacedKeys.add(savedPastAppointments.get(appointment).key));
+        added.forEach(appointment -> replacedKeys.add(toKey(appointment)));
+        List<Appointment> updated = stored.stream()
+                .filter(appointment -> !replacedKeys.contains(toKey(appointment)))
+                .collect(Collectors.toCollection(ArrayList::new));
+        updated.addAll(added);
+
+        Path monthPath = getMonthPath(month);
+        boolean isChanged = !toContent(updated).equals(toContent(stored));
+        // The NRICs and ids of an archived month are kept, as its archive still holds them
+        boolean isArchived = archivedMonths.contains(month);
+        if (!isArchived && isChanged) {
+            Set<AppointmentId> updatedIds = updated.stream().map(Appointment::getAppointmentId)
+                    .collect(Collectors.toSet());
+            stored.stream().map(Appointment::getAppointmentId).filter(id -> !updatedIds.contains(id))
+                    .forEach(id -> monthsById.remove(id, month));
+        }
+        if (updated.isEmpty()) {
+            Files.deleteIfExists(monthPath);
+            if (!isArchived) {
+                nricsByMonth.remove(month);
+            }
+        } else if (isChanged) {
+            writeMonth(month, updated);
+            if (isArchived) {
+                nricsByMonth.get(month).addAll(getNrics(updated));
+            } else {
+                nricsByMonth.put(month, getNrics(updated));
+            }
+            putMonths(updated, month);
+        }
+
+        for (Appointment appointment : removed) {
+            if (savedPastAppointments.get(appointment).month.equals(month)) {
+                savedPastAppointments.remove(appointment);
+            }
+        }
+        added.forEach(appointment ->
+                savedPastAppointments.put(appointment, new SavedAppointment(toKey(appointment), month)));
+        return isChanged || updated.isEmpty();
+    }
+
+    private void writeMonth(YearMonth month, List<Appointment> appointments) throws IOException {
+        Files.createDirectories(monthsFolder);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(new ArrayList<>(),
+                appointments.stream().map(JsonAdaptedAppointment::new).collect(Collectors.toList())),
+                getMonthPath(month));
+    }
+
+    private void deleteAllMonths() throws IOException {
+        for (YearMonth month : new ArrayList<>(archivedMonths)) {
+            archive.delete(month);
+            archivedMonths.remove(month);
+        }
+        for (YearMonth month : new ArrayList<>(nricsByMonth.keySet())) {
+            Files.deleteIfExists(getMonthPath(month));
+            nricsByMonth.remove(month);
+        }
+        monthsById.clear();
+        Files.deleteIfExists(getIndexPath());
+        savedPastAppointments.clear();
+        isDiscardRequested = false;
+    }
+
+    private void writeIndex() throws IOException {
+        if (nricsByMonth.isEmpty()) {
+            Files.deleteIfExists(getIndexPath());
+            return;
+        }
+        Files.createDirectories(monthsFolder);
+        JsonUtil.saveJsonFile(new JsonSerializableMonthIndex(nricsByMonth, monthsById), getIndexPath());
+    }
+
+    // ================ Utilities =============================================================================
+
+    private boolean isPast(Appointment appointment) {
+        return appointment.getAppointmentDateTime().compareTo(windowStart) < 0;
+    }
+
+    /**
+     * Returns a view of the persons of {@code addressBook} and its appointments that are not past.
+     * Nothing is copied, so the view follows later changes to {@code addressBook}.
+     */
+    private ReadOnlyAddressBook getCurrentPart(ReadOnlyAddressBook addressBook) {
+        return new CurrentPart(addressBook.getPersonList(),
+                new FilteredList<>(addressBook.getAppointmentList(), appointment -> !isPast(appointment)));
+    }
+
+    /**
+     * Returns the past appointments in {@code appointments}, grouped by the month they are in.
+     */
+    private Map<YearMonth, List<Appointment>> groupByMonth(Collection<Appointment> appointments) {
+        return appointments.stream().filter(this::isPast)
+                .collect(Collectors.groupingBy(PartitionedAddressBookStorage::getMonth));
+    }
+
+    private static YearMonth getMonth(Appointment appointment) {
+        return YearMonth.from(appointment.getAppointmentDateTime().appointmentDateTime);
+    }
+
+    /**
+     * Returns the appointments in the file of {@code month}, or an empty list if it has none.
+     */
+    private List<Appointment> readMonth(YearMonth month) throws IOException {
+        try {
+            Optional<JsonSerializableAddressBook> stored = JsonUtil.readJsonFile(getMonthPath(month),
+                    JsonSerializableAddressBook.class);
+            return stored.isPresent() ? stored.get().toModelType().getAppointmentList() : Collections.emptyList();
+        } catch (DataLoadingException | IllegalValueException e) {
+            throw new IOException("Could not read " + getMonthPath(month), e);
+        }
+    }
+
+    private Path getMonthPath(YearMonth month) {
+        return monthsFolder.resolve(month + MONTH_FILE_SUFFIX);
+    }
+
+    private Path getIndexPath() {
+        return monthsFolder.resolve(INDEX_FILE_NAME);
+    }
+
+    private static Optional<YearMonth> toMonth(Path monthFile) {
+        String fileName = monthFile.getFileName().toString();
+        try {
+            return Optional.of(YearMonth.parse(
+                    fileName.substring(0, fileName.length() - MONTH_FILE_SUFFIX.length())));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Set<String> getNrics(Collection<Appointment> appointments) {
+        Set<String> nrics = new HashSet<>();
+        for (Appointment appointment : appointments) {
+            nrics.add(toKey(appointment.getDoctorNric()));
+            nrics.add(toKey(appointment.getPatientNric()));
+        }
+        return nrics;
+    }
+
+    /**
+     * Records {@code month} as the month of each of {@code appointments}.
+     *
+     * @return true if the month of any of them changed.
+     */
+    private boolean putMonths(Collection<Appointment> appointments, YearMonth month) {
+        boolean isChanged = false;
+        for (Appointment appointment : appointments) {
+            isChanged |= !month.equals(monthsById.put(appointment.getAppointmentId(), month));
+        }
+        return isChanged;
+    }
+
+    /**
+     * Returns every field of {@code appointments}, so that a month is only rewritten if something in it changed.
+     */
+    private static Set<String> toContent(Collection<Appointment> appointments) {
+        return appointments.stream().map(appointment -> toKey(appointment) + " " + appointment.getAppointmentId())
+                .collect(Collectors.toSet());
+    }
+
+    private static String toKey(Nric nric) {
+        return nric.nric;
+    }
+
+    private static String toKey(Appointment appointment) {
+        return toKey(appointment.getDoctorNric()) + " " + toKey(appointment.getPatientNric())
+                + " " + appointment.getAppointmentDateTime();
+    }
+
+    /**
+     * The persons of an address book and its appointments that are not past, as saved in the data file.
+     */
+    private static class CurrentPart implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final ObservableList<Appointment> appointments;
+
+        CurrentPart(ObservableList<Person> persons, ObservableList<Appointment> appointments) {
+            this.persons = persons;
+            this.appointments = appointments;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ObservableList<Appointment> getAppointmentList() {
+            return appointments;
+        }
+    }
+
+    /**
+     * Where a past appointment held in memory was last saved.
+     */
+    private static class SavedAppointment {
+        private final String key;
+        private final YearMonth month;
+
+        SavedAppointment(String key, YearMonth month) {
+            this.key = key;
+            this.month = month;
+        }
+    }
+}
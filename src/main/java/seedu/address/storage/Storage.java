@@ -2,12 +2,16 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
 
 /**
  * API of the Storage component
@@ -29,4 +33,33 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Returns the file that appointments set aside by {@link #saveQuarantinedAppointments(List)} are kept in.
+     */
+    Path getQuarantineFilePath();
+
+    /**
+     * Adds {@code appointments} to the quarantine file, keeping the appointments already in it.
+     * Appointments are quarantined when they cannot be loaded into the address book, so that they are not lost.
+     */
+    void saveQuarantinedAppointments(List<Appointment> appointments) throws IOException;
+
+    /**
+     * Saves {@code changes}, the changes made to {@code addressBook} since it was last saved, on a background thread.
+     * Returns without waiting for the save. Saves requested while an earlier one is still waiting to be written are
+     * combined with it into a single write. Failures are reported to the handler set with
+     * {@link #setSaveFailureHandler(Consumer)}.
+     */
+    void saveAddressBookChangesInBackground(ReadOnlyAddressBook addressBook, AddressBookChanges changes);
+
+    /**
+     * Sets the handler that is called, on the background thread, when a background save fails.
+     */
+    void setSaveFailureHandler(Consumer<IOException> handler);
+
+    /**
+     * Blocks until every background save requested so far has been written, retrying the last save if it failed.
+     */
+    void flush();
+
 }
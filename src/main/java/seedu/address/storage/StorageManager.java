@@ -1,25 +1,61 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ *
+ * Background saves run one at a time on a single thread, in the order they were requested. Only the background
+ * thread touches the address book storage while background saves are in use. The background thread saves from an
+ * {@code AddressBookMirror} that it brings up to date with the changes of each save, so requesting a save only
+ * copies the whole address book when it has been replaced, or on the first request.
  */
 public class StorageManager implements Storage {
 
+    public static final String QUARANTINE_FILE_SUFFIX = ".quarantine.json";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-save");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Object pendingSaveLock = new Object();
+    private PendingSave pendingSave; // guarded by pendingSaveLock; set while a save is queued but not yet started
+    private volatile Consumer<IOException> saveFailureHandler = ioe -> { };
+
+    // Accessed only from the thread that requests background saves
+    private boolean isMirrorSeeded = false;
+
+    // Accessed only from the background save thread
+    private AddressBookMirror mirror;
+    private boolean hasFailedSave = false;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -75,4 +111,146 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        logger.fine("Attempting to write changes to data file: " + getAddressBookFilePath());
+        addressBookStorage.saveAddressBookChanges(addressBook, changes);
+    }
+
+    @Override
+    public Path getQuarantineFilePath() {
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        return filePath.resolveSibling(filePath.getFileName() + QUARANTINE_FILE_SUFFIX);
+    }
+
+    @Override
+    public void saveQuarantinedAppointments(List<Appointment> appointments) throws IOException {
+        requireNonNull(appointments);
+        Path quarantineFilePath = getQuarantineFilePath();
+        logger.fine("Attempting to quarantine " + appointments.size() + " appointments in: " + quarantineFilePath);
+
+        List<JsonAdaptedAppointment> quarantined = new ArrayList<>();
+        try {
+            JsonUtil.readJsonFile(quarantineFilePath, JsonSerializableAddressBook.class)
+                    .ifPresent(existing -> quarantined.addAll(existing.getAppointments()));
+        } catch (DataLoadingException dle) {
+            // Never overwrite appointments quarantined earlier
+            throw new IOException("Could not read quarantine file " + quarantineFilePath, dle);
+        }
+        appointments.stream().map(JsonAdaptedAppointment::new).forEach(quarantined::add);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(new ArrayList<>(), quarantined), quarantineFilePath);
+    }
+
+    @Override
+    public void saveAddressBookChangesInBackground(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+        requireAllNonNull(addressBook, changes);
+        AddressBookSnapshot snapshot = null;
+        if (changes.isReset() || !isMirrorSeeded) {
+            snapshot = new AddressBookSnapshot(addressBook);
+            isMirrorSeeded = true;
+        }
+
+        synchronized (pendingSaveLock) {
+            if (pendingSave != null) {
+                pendingSave = pendingSave.followedBy(snapshot, changes);
+                return;
+            }
+            pendingSave = new PendingSave(snapshot, changes);
+        }
+        saveExecutor.execute(this::writePendingSave);
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    @Override
+    public void flush() {
+        try {
+            saveExecutor.submit(() -> {
+                if (hasFailedSave) {
+                    writeAddressBook(null);
+                }
+            }).get();
+        } catch (InterruptedException | ExecutionException e) {
+            logger.warning("Interrupted while waiting for data to be saved: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes the pending save. Runs on the background save thread.
+     */
+    private void writePendingSave() {
+        PendingSave save;
+        synchronized (pendingSaveLock) {
+            save = pendingSave;
+            pendingSave = null;
+        }
+        if (save.snapshot != null) {
+            mirror = new AddressBookMirror(save.snapshot);
+        }
+        mirror.apply(save.changesAfterSnapshot);
+        writeAddressBook(save.changes);
+    }
+
+    /**
+     * Writes the mirror in full if {@code changes} is null or an earlier save failed, since the changes of a failed
+     * save are lost, and writes only {@code changes} otherwise. Runs on the background save thread.
+     */
+    private void writeAddressBook(AddressBookChanges changes) {
+        try {
+            if (changes == null || hasFailedSave) {
+                saveAddressBook(mirror);
+            } else {
+                saveAddressBookChanges(mirror, changes);
+            }
+            hasFailedSave = false;
+        } catch (IOException ioe) {
+            hasFailedSave = true;
+            logger.warning("Failed to save data to " + getAddressBookFilePath() + ": " + StringUtil.getDetails(ioe));
+            saveFailureHandler.accept(ioe);
+        }
+    }
+
+    /**
+     * A save that has been requested but not yet started.
+     */
+    private static class PendingSave {
+        // A copy of the whole address book to start the mirror from, or null to keep the current mirror
+        private final AddressBookSnapshot snapshot;
+        // The changes to apply to the mirror, made after the snapshot if there is one
+        private final AddressBookChanges changesAfterSnapshot;
+        // The changes to save, made since the last save
+        private final AddressBookChanges changes;
+
+        /**
+         * Creates a save of {@code changes}, where {@code snapshot} is the address book after them or null.
+         */
+        PendingSave(AddressBookSnapshot snapshot, AddressBookChanges changes) {
+            this(snapshot, snapshot == null ? changes : new AddressBookChanges(), changes);
+        }
+
+        private PendingSave(AddressBookSnapshot snapshot, AddressBookChanges changesAfterSnapshot,
+                            AddressBookChanges changes) {
+            this.snapshot = snapshot;
+            this.changesAfterSnapshot = changesAfterSnapshot;
+            this.changes = changes;
+        }
+
+        /**
+         * Returns a save of these changes followed by {@code later}, where {@code laterSnapshot} is the address book
+         * after them or null.
+         */
+        PendingSave followedBy(AddressBookSnapshot laterSnapshot, AddressBookChanges later) {
+            AddressBookChanges merged = changes.mergedWith(later);
+            if (laterSnapshot != null) {
+                return new PendingSave(laterSnapshot, merged);
+            }
+            return new PendingSave(snapshot, changesAfterSnapshot.mergedWith(later), merged);
+        }
+    }
+
 }
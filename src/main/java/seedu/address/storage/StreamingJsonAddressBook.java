@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Reads and writes address book json files one person or appointment at a time.
+ *
+ * The files have the same format as {@link JsonSerializableAddressBook}, but are never held in memory as a whole:
+ * records are read in batches and converted to the model a batch at a time, and each record is converted to its
+ * json form just before it is written.
+ */
+class StreamingJsonAddressBook {
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Address book file must contain a json object.";
+    public static final String MESSAGE_NOT_A_RECORD = "Expected a json object for each %s.";
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String APPOINTMENTS_FIELD = "appointments";
+
+    /**
+     * Accepts a batch of records read from a file.
+     */
+    @FunctionalInterface
+    private interface BatchConsumer<T> {
+        void accept(List<T> batch) throws IllegalValueException;
+    }
+
+    /**
+     * Returns the address book in the json file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    readRecords(parser, "person", JsonAdaptedPerson.class, assembler::addPersons);
+                } else if (APPOINTMENTS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    readRecords(parser, "appointment", JsonAdaptedAppointment.class, assembler::addAppointments);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return assembler.toAddressBook();
+    }
+
+    /**
+     * Reads the records in the array {@code parser} is at, handing them to {@code consumer} in batches of at most
+     * {@link AddressBookAssembler#BATCH_SIZE} records.
+     */
+    private static <T> void readRecords(JsonParser parser, String recordName, Class<T> recordType,
+                                        BatchConsumer<T> consumer) throws IOException, IllegalValueException {
+        List<T> batch = new ArrayList<>();
+        while (nextRecord(parser, recordName)) {
+            batch.add(parser.readValueAs(recordType));
+            if (batch.size() == AddressBookAssembler.BATCH_SIZE) {
+                consumer.accept(batch);
+                batch.clear();
+            }
+        }
+        consumer.accept(batch);
+    }
+
+    /**
+     * Moves {@code parser} to the start of the next record in the array it is in.
+     *
+     * @return false if the end of the array has been reached.
+     */
+    private static boolean nextRecord(JsonParser parser, String recordName) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            return false;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, String.format(MESSAGE_NOT_A_RECORD, recordName));
+        }
+        return true;
+    }
+
+    /**
+     * Writes {@code addressBook} to the json file at {@code filePath}, keeping the previous
+     * {@code generationsToKeep} versions of the file.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, int generationsToKeep)
+            throws IOException {
+        write(addressBook.getPersonList().stream().map(JsonAdaptedPerson::new).iterator(),
+                addressBook.getAppointmentList().stream().map(JsonAdaptedAppointment::new).iterator(),
+                filePath, generationsToKeep);
+    }
+
+    /**
+     * Writes the given persons and appointments to the json file at {@code filePath}, keeping the previous
+     * {@code generationsToKeep} versions of the file.
+     */
+    public static void write(Iterator<JsonAdaptedPerson> persons, Iterator<JsonAdaptedAppointment> appointments,
+                             Path filePath, int generationsToKeep) throws IOException {
+        FileUtil.writeToFile(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(PERSONS_FIELD);
+                while (persons.hasNext()) {
+                    generator.writeObject(persons.next());
+                }
+                generator.writeEndArray();
+                generator.writeArrayFieldStart(APPOINTMENTS_FIELD);
+                while (appointments.hasNext()) {
+                    generator.writeObject(appointments.next());
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        }, generationsToKeep);
+    }
+}
@@ -1,34 +1,83 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.QueryDoctorAppointmentCommand;
+import seedu.address.logic.commands.QueryPatientAppointmentCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CliSyntax;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ *
+ * Where an NRIC is expected, the persons that the NRIC or name being typed could refer to are suggested in a
+ * dropdown, and choosing one fills in their NRIC. Suggestions are only looked up once the user pauses typing, on a
+ * background thread, so that typing is never held up by a lookup.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final int MAX_SUGGESTIONS = 8;
+    public static final int MIN_SUGGESTION_PREFIX_LENGTH = 2;
+    private static final Duration SUGGESTION_DELAY = Duration.millis(150);
     private static final String FXML = "CommandBox.fxml";
 
+    // The parameters and commands that take an NRIC
+    private static final Set<String> NRIC_PREFIXES = Set.of(CliSyntax.PREFIX_NRIC.getPrefix(),
+            CliSyntax.PREFIX_PATIENTNRIC.getPrefix(), CliSyntax.PREFIX_DOCTORNRIC.getPrefix());
+    private static final Set<String> NRIC_COMMAND_WORDS = Set.of(QueryPatientAppointmentCommand.COMMAND_WORD,
+            QueryDoctorAppointmentCommand.COMMAND_WORD);
+    private static final Pattern PARAMETER_PREFIX = Pattern.compile("(?<=\\s)[a-z]+/");
+
+    private static final ExecutorService suggestionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-suggestions");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final CommandExecutor commandExecutor;
+    private final SuggestionProvider suggestionProvider;
+    private final PauseTransition suggestionDelay = new PauseTransition(SUGGESTION_DELAY);
+    private final ContextMenu suggestionMenu = new ContextMenu();
+
+    // Incremented on every change to the text, so that suggestions for older text are never shown
+    private long textVersion = 0;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code SuggestionProvider}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, SuggestionProvider suggestionProvider) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.suggestionProvider = suggestionProvider;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            scheduleSuggestions();
+        });
+        suggestionDelay.setOnFinished(unused -> requestSuggestions());
     }
 
     /**
@@ -47,6 +96,98 @@ public class CommandBox extends UiPart<Region> {
         } catch (CommandException | ParseException e) {
             setStyleToIndicateCommandFailure();
         }
+        suggestionMenu.hide();
+    }
+
+    /**
+     * Hides the current suggestions and looks up new ones once the user stops typing for {@code SUGGESTION_DELAY}.
+     */
+    private void scheduleSuggestions() {
+        textVersion++;
+        suggestionMenu.hide();
+        suggestionDelay.playFromStart();
+    }
+
+    /**
+     * Looks up suggestions for the NRIC or name being typed on the background thread, if an NRIC is expected.
+     */
+    private void requestSuggestions() {
+        String commandText = commandTextField.getText();
+        int completionStart = getCompletionStart(commandText);
+        if (completionStart == -1) {
+            return;
+        }
+        String prefix = commandText.substring(completionStart);
+        if (prefix.trim().length() < MIN_SUGGESTION_PREFIX_LENGTH) {
+            return;
+        }
+
+        long requestedVersion = textVersion;
+        suggestionExecutor.execute(() -> {
+            List<Person> suggestions = suggestionProvider.getSuggestions(prefix, MAX_SUGGESTIONS);
+            Platform.runLater(() -> showSuggestions(requestedVersion, suggestions));
+        });
+    }
+
+    /**
+     * Shows {@code suggestions} below the command box, unless the text has changed since they were requested.
+     */
+    private void showSuggestions(long requestedVersion, List<Person> suggestions) {
+        if (requestedVersion != textVersion || suggestions.isEmpty()) {
+            return;
+        }
+
+        suggestionMenu.getItems().clear();
+        for (Person person : suggestions) {
+            MenuItem item = new MenuItem(person.getName().fullName + " (" + person.getNric().nric + ")");
+            item.setOnAction(unused -> applySuggestion(person));
+            suggestionMenu.getItems().add(item);
+        }
+        suggestionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+    }
+
+    /**
+     * Replaces the NRIC or name being typed with the NRIC of {@code person}.
+     */
+    private void applySuggestion(Person person) {
+        String commandText = commandTextField.getText();
+        commandTextField.setText(commandText.substring(0, getCompletionStart(commandText))
+                + person.getNric().nric + " ");
+        commandTextField.positionCaret(commandTextField.getText().length());
+    }
+
+    /**
+     * Returns the index in {@code commandText} where the NRIC or name being typed starts, or -1 if an NRIC is not
+     * expected there. An NRIC is expected in the value of an NRIC parameter (e.g. {@code pn/}), and in the keywords
+     * of the commands that look up appointments by NRIC, after the last complete NRIC. A name may have several
+     * words, so the value runs to the end of the text.
+     */
+    static int getCompletionStart(String commandText) {
+        Matcher prefixMatcher = PARAMETER_PREFIX.matcher(commandText);
+        int valueStart = -1;
+        String lastPrefix = null;
+        while (prefixMatcher.find()) {
+            valueStart = prefixMatcher.end();
+            lastPrefix = prefixMatcher.group();
+        }
+        if (lastPrefix != null) {
+            return NRIC_PREFIXES.contains(lastPrefix) ? valueStart : -1;
+        }
+
+        int commandWordEnd = commandText.indexOf(' ');
+        if (commandWordEnd == -1 || !NRIC_COMMAND_WORDS.contains(commandText.substring(0, commandWordEnd))) {
+            return -1;
+        }
+        int keywordStart = commandWordEnd + 1;
+        for (int i = keywordStart; i < commandText.length(); i++) {
+            if (commandText.charAt(i) != ' ') {
+                continue;
+            }
+            if (Nric.isValidNric(commandText.substring(keywordStart, i).trim())) {
+                keywordStart = i + 1;
+            }
+        }
+        return keywordStart;
     }
 
     /**
@@ -82,4 +223,18 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that suggests the persons a partly typed NRIC or name could refer to.
+     * It is called on a background thread.
+     */
+    @FunctionalInterface
+    public interface SuggestionProvider {
+        /**
+         * Returns up to {@code limit} persons whose NRIC or name has a word starting with {@code prefix}.
+         *
+         * @see seedu.address.logic.Logic#getPersonsWithPrefix(String, int)
+         */
+        List<Person> getSuggestions(String prefix, int limit);
+    }
+
 }
@@ -1,13 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,29 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_generationsKept_previousVersionsRenamed() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("data.txt");
+        FileUtil.writeToFile(file, "first", 2);
+        FileUtil.writeToFile(file, "second", 2);
+        FileUtil.writeToFile(file, "third", 2);
+        FileUtil.writeToFile(file, "fourth", 2);
+
+        assertEquals("fourth", FileUtil.readFromFile(file));
+        assertEquals("third", FileUtil.readFromFile(FileUtil.getGenerationPath(file, 1)));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getGenerationPath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getGenerationPath(file, 3)));
+        assertFalse(Files.exists(file.resolveSibling(file.getFileName() + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void writeToFile_noGenerationsKept_onlyFileWritten() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "first");
+        FileUtil.writeToFile(file, "second");
+
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getGenerationPath(file, 1)));
+    }
+
 }
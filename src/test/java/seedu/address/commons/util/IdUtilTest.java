@@ -1,19 +1,17 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.IdUtil.deleteId;
 import static seedu.address.commons.util.IdUtil.generateNewId;
 import static seedu.address.commons.util.IdUtil.hasId;
-import static seedu.address.commons.util.IdUtil.initalMapUpdate;
+import static seedu.address.commons.util.IdUtil.markUsed;
 
 import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
 
-import jdk.jshell.spi.ExecutionControl;
-
 class IdUtilTest {
 
     private static final String APPT_REGEX = "a\\d{8}";
@@ -25,8 +23,12 @@ class IdUtilTest {
     }
 
     @Test
-    void initialMapUpdate_validInput_throwsNotImplementedException() {
-        assertThrows(ExecutionControl.NotImplementedException.class, () -> initalMapUpdate());
+    void markUsed_nextIdMarkedUsed_skipsId() {
+        String id = generateNewId(IdUtil.Entities.APPOINTMENT);
+        String nextId = String.format("a%08d", Long.parseLong(id.substring(1)) + 1);
+        markUsed(nextId);
+        assertTrue(hasId(nextId));
+        assertNotEquals(nextId, generateNewId(IdUtil.Entities.APPOINTMENT));
     }
 
     @Test
@@ -0,0 +1,75 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedInputStreamTest {
+
+    private static final byte[] CONTENT =
+            "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_singleRegion_wholeFileRead() throws Exception {
+        Path file = writeContent();
+        try (InputStream in = new MappedInputStream(file)) {
+            assertArrayEquals(CONTENT, readAll(in));
+        }
+    }
+
+    @Test
+    public void read_manyRegions_wholeFileRead() throws Exception {
+        Path file = writeContent();
+        try (InputStream in = new MappedInputStream(file, 5)) {
+            assertArrayEquals(CONTENT, readAll(in));
+        }
+    }
+
+    @Test
+    public void read_singleBytesAcrossRegions_wholeFileRead() throws Exception {
+        Path file = writeContent();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = new MappedInputStream(file, 4)) {
+            for (int b = in.read(); b != -1; b = in.read()) {
+                out.write(b);
+            }
+        }
+        assertArrayEquals(CONTENT, out.toByteArray());
+    }
+
+    @Test
+    public void read_emptyFile_endOfStream() throws Exception {
+        Path file = testFolder.resolve("empty.txt");
+        Files.createFile(file);
+        try (InputStream in = new MappedInputStream(file)) {
+            assertEquals(-1, in.read());
+            assertEquals(-1, in.read(new byte[4], 0, 4));
+        }
+    }
+
+    private Path writeContent() throws Exception {
+        Path file = testFolder.resolve("content.txt");
+        Files.write(file, CONTENT);
+        return file;
+    }
+
+    private static byte[] readAll(InputStream in) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[7];
+        for (int count = in.read(buffer, 0, buffer.length); count != -1; count = in.read(buffer, 0, buffer.length)) {
+            out.write(buffer, 0, count);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IdsExhaustedException;
+
+public class SequentialIdAllocatorTest {
+
+    private final List<Long> savedHighWaterMarks = new ArrayList<>();
+
+    private SequentialIdAllocator createAllocator(long appointmentHighWaterMark, int blockSize) {
+        Map<IdUtil.Entities, Long> highWaterMarks = new EnumMap<>(IdUtil.Entities.class);
+        highWaterMarks.put(IdUtil.Entities.APPOINTMENT, appointmentHighWaterMark);
+        return new SequentialIdAllocator(highWaterMarks, (entity, highWaterMark) -> {
+            if (entity == IdUtil.Entities.APPOINTMENT) {
+                savedHighWaterMarks.add(highWaterMark);
+            }
+        }, blockSize);
+    }
+
+    @Test
+    public void constructor_nonPositiveBlockSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> createAllocator(0, 0));
+    }
+
+    @Test
+    public void allocate_newAllocator_allocatesInOrderFromFirstNumber() {
+        SequentialIdAllocator allocator = new SequentialIdAllocator();
+        assertEquals(SequentialIdAllocator.FIRST_NUMBER, allocator.allocate(IdUtil.Entities.APPOINTMENT));
+        assertEquals(SequentialIdAllocator.FIRST_NUMBER + 1, allocator.allocate(IdUtil.Entities.APPOINTMENT));
+
+        // each entity has its own counter
+        assertEquals(SequentialIdAllocator.FIRST_NUMBER, allocator.allocate(IdUtil.Entities.PATIENT));
+    }
+
+    @Test
+    public void allocate_savedHighWaterMark_continuesAfterIt() {
+        SequentialIdAllocator allocator = createAllocator(500, 10);
+        assertEquals(501, allocator.allocate(IdUtil.Entities.APPOINTMENT));
+        assertEquals(Collections.singletonList(510L), savedHighWaterMarks);
+    }
+
+    @Test
+    public void allocate_blockUsedUp_nextBlockSavedOnce() {
+        SequentialIdAllocator allocator = createAllocator(0, 2);
+        IntStream.range(0, 5).forEach(unused -> allocator.allocate(IdUtil.Entities.APPOINTMENT));
+        assertEquals(List.of(2L, 4L, 6L), savedHighWaterMarks);
+    }
+
+    @Test
+    public void allocate_lastNumberUsed_throwsIdsExhaustedException() {
+        SequentialIdAllocator allocator = createAllocator(SequentialIdAllocator.LAST_NUMBER - 1, 10);
+        assertEquals(SequentialIdAllocator.LAST_NUMBER, allocator.allocate(IdUtil.Entities.APPOINTMENT));
+        assertEquals(Collections.singletonList(SequentialIdAllocator.LAST_NUMBER), savedHighWaterMarks);
+        assertThrows(IdsExhaustedException.class, () -> allocator.allocate(IdUtil.Entities.APPOINTMENT));
+    }
+
+    @Test
+    public void markUsed_numberAhead_skipsToAfterIt() {
+        SequentialIdAllocator allocator = createAllocator(0, 10);
+        allocator.markUsed(IdUtil.Entities.APPOINTMENT, 42);
+        assertEquals(43, allocator.allocate(IdUtil.Entities.APPOINTMENT));
+
+        // numbers behind the counter and numbers of old random ids are ignored
+        allocator.markUsed(IdUtil.Entities.APPOINTMENT, 7);
+        allocator.markUsed(IdUtil.Entities.APPOINTMENT, 12345678);
+        assertEquals(44, allocator.allocate(IdUtil.Entities.APPOINTMENT));
+    }
+
+    @Test
+    public void allocate_concurrentCalls_allNumbersUnique() {
+        SequentialIdAllocator allocator = createAllocator(0, 16);
+        Set<Long> allocated = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 10000).parallel()
+                .forEach(unused -> allocated.add(allocator.allocate(IdUtil.Entities.APPOINTMENT)));
+        assertEquals(10000, allocated.size());
+        assertEquals(10001, allocator.allocate(IdUtil.Entities.APPOINTMENT));
+    }
+}
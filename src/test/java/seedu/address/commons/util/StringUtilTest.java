@@ -1,10 +1,13 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -182,6 +185,43 @@ public class StringUtilTest {
         });
     }
 
+    //---------------- Tests for splitWords and foldCase --------------------------------------
+
+    @Test
+    public void splitWords_whitespaceAroundWords_returnsWordsOnly() {
+        assertEquals(Arrays.asList("ABc", "def"), StringUtil.splitWords("  ABc \t def  "));
+        assertEquals(Collections.emptyList(), StringUtil.splitWords("   "));
+    }
+
+    @Test
+    public void foldCase_wordsEqualIgnoringCase_foldedEqual() {
+        assertEquals(StringUtil.foldCase("Alice"), StringUtil.foldCase("aLICE"));
+        assertFalse(StringUtil.foldCase("Alice").equals(StringUtil.foldCase("Alicia")));
+    }
+
+    @Test
+    public void getEditDistance_variousPairs_returnsNumberOfEdits() {
+        assertEquals(0, StringUtil.getEditDistance("alice", "alice"));
+        assertEquals(1, StringUtil.getEditDistance("alice", "alise"));
+        assertEquals(1, StringUtil.getEditDistance("alice", "alic"));
+        assertEquals(2, StringUtil.getEditDistance("alice", "alicia"));
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting"));
+        assertEquals(4, StringUtil.getEditDistance("", "abcd"));
+    }
+
+    @Test
+    public void getSoundex_variousWords_returnsCode() {
+        assertEquals("M530", StringUtil.getSoundex("Mohamed"));
+        assertEquals("M530", StringUtil.getSoundex("muhammad"));
+        assertEquals("R163", StringUtil.getSoundex("Robert"));
+        assertEquals("R163", StringUtil.getSoundex("Rupert"));
+        // H and W do not separate consonants with the same digit
+        assertEquals("A261", StringUtil.getSoundex("Ashcraft"));
+        assertEquals("T000", StringUtil.getSoundex("Tay"));
+        assertEquals("O212", StringUtil.getSoundex("O'Keefe-Sims"));
+        assertEquals("", StringUtil.getSoundex("1234"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -7,8 +7,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BROWN;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.IdAllocator;
+import seedu.address.commons.util.IdUtil;
+import seedu.address.commons.util.SequentialIdAllocator;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ModelManager;
@@ -98,8 +104,29 @@ class AddAppointmentCommandTest {
         Appointment appt = new Appointment(BROWN.getNric(), ALICE.getNric(),
                 new AppointmentDateTime("2024-09-01 11:02"));
         AddAppointmentCommand ad = new AddAppointmentCommand(appt);
-        assertEquals(ad.toString(), "seedu.address.logic.commands.AddAppointmentCommand{toAdd="
-                + appt.toString()
+        assertEquals(ad.toString(), "seedu.address.logic.commands.AddAppointmentCommand{doctorNric="
+                + BROWN.getNric() + ", patientNric=" + ALICE.getNric()
+                + ", appointmentDateTime=" + appt.getAppointmentDateTime()
                 + "}");
     }
+
+    @Test
+    void execute_appointmentIdsExhausted_throwsCommandException() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BROWN);
+        AddAppointmentCommand ad = new AddAppointmentCommand(BROWN.getNric(), ALICE.getNric(),
+                new AppointmentDateTime("2124-01-01 10:00"));
+
+        IdAllocator allocator = IdUtil.getAllocator();
+        IdUtil.setAllocator(new SequentialIdAllocator(
+                Map.of(IdUtil.Entities.APPOINTMENT, SequentialIdAllocator.LAST_NUMBER),
+                (entity, highWaterMark) -> {}, SequentialIdAllocator.DEFAULT_BLOCK_SIZE));
+        try {
+            CommandException e = assertThrows(CommandException.class, () -> ad.execute(modelManager));
+            assertEquals(Messages.MESSAGE_APPOINTMENT_IDS_EXHAUSTED, e.getMessage());
+            assertTrue(modelManager.getFilteredAppointmentList().isEmpty());
+        } finally {
+            IdUtil.setAllocator(allocator);
+        }
+    }
 }
@@ -10,6 +10,10 @@ import static seedu.address.testutil.TypicalPersons.DAMES;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,11 +23,15 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDateTime;
+import seedu.address.model.appointment.AppointmentId;
 import seedu.address.model.person.Doctor;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.DoctorBuilder;
 
@@ -136,6 +144,16 @@ public class AddDoctorCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public AddressBookChanges getAddressBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markAddressBookChangesSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -151,6 +169,46 @@ public class AddDoctorCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean isArchivedAppointment(Appointment appointment) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasArchivedAppointments(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Appointment> getAppointmentById(AppointmentId appointmentId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonKeywordCandidates(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonNameWordCandidates(List<String> words) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonNameWordNearCandidates(List<String> words) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonNameSoundCandidates(List<String> words) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsWithPrefix(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAppointment(Appointment target, Appointment editedAppointment) {
             throw new AssertionError("This method should not be called.");
@@ -166,6 +224,22 @@ public class AddDoctorCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(List<Person> candidates, Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(List<Person> candidates, Predicate<Person> predicate,
+                Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Appointment> getFilteredAppointmentList() {
             throw new AssertionError("This method should not be called.");
@@ -198,6 +272,25 @@ public class AddDoctorCommandTest {
         @Override
         public void updateFilteredAppointmentList(Predicate<Appointment> appointment) {
         }
+
+        @Override
+        public void updateFilteredAppointmentList(Collection<Appointment> appointments) {
+        }
+
+        @Override
+        public List<Appointment> getAppointmentsByDoctorNric(Nric doctorNric) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Appointment> getAppointmentsByPatientNric(Nric patientNric) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Appointment> getAppointmentsBetween(AppointmentDateTime from, AppointmentDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
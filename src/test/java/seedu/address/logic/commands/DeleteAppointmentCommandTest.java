@@ -17,6 +17,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentId;
 
 
 /**
@@ -47,6 +48,44 @@ public class DeleteAppointmentCommandTest {
         assertCommandFailure(deleteAppointmentCommand, model, Messages.MESSAGE_INVALID_APPOINTMENT_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_validAppointmentId_success() {
+        Appointment appointmentToDelete = model.getFilteredAppointmentList().get(INDEX_SECOND_PERSON.getZeroBased());
+        model.updateFilteredAppointmentList(unused -> false);
+        DeleteAppointmentCommand deleteAppointmentCommand =
+                new DeleteAppointmentCommand(appointmentToDelete.getAppointmentId());
+
+        String expectedMessage = String.format(DeleteAppointmentCommand.MESSAGE_DELETE_APPOINTMENT_SUCCESS,
+                Messages.format(appointmentToDelete));
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deleteAppointment(appointmentToDelete);
+
+        assertCommandSuccess(deleteAppointmentCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownAppointmentId_throwsCommandException() {
+        AppointmentId unknownId = new AppointmentId("a00000000");
+        DeleteAppointmentCommand deleteAppointmentCommand = new DeleteAppointmentCommand(unknownId);
+
+        assertCommandFailure(deleteAppointmentCommand, model,
+                String.format(Messages.MESSAGE_UNKNOWN_APPOINTMENT_ID, unknownId));
+    }
+
+    @Test
+    public void execute_archivedAppointment_throwsCommandException() {
+        Model archivedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public boolean isArchivedAppointment(Appointment appointment) {
+                return true;
+            }
+        };
+        DeleteAppointmentCommand deleteAppointmentCommand = new DeleteAppointmentCommand(INDEX_FIRST_PERSON);
+
+        assertCommandFailure(deleteAppointmentCommand, archivedModel, Messages.MESSAGE_ARCHIVED_APPOINTMENT);
+    }
+
     @Test
     public void equals() {
         DeleteAppointmentCommand deleteAppointmentFirstCommand = new DeleteAppointmentCommand(INDEX_FIRST_PERSON);
@@ -67,6 +106,13 @@ public class DeleteAppointmentCommandTest {
 
         // different appointments -> returns false
         assertFalse(deleteAppointmentFirstCommand.equals(deleteAppointmentSecondCommand));
+
+        // same appointment id -> returns true
+        DeleteAppointmentCommand deleteByIdCommand = new DeleteAppointmentCommand(new AppointmentId("a00000001"));
+        assertTrue(deleteByIdCommand.equals(new DeleteAppointmentCommand(new AppointmentId("a00000001"))));
+
+        // index and appointment id -> returns false
+        assertFalse(deleteAppointmentFirstCommand.equals(deleteByIdCommand));
     }
 
     @Test
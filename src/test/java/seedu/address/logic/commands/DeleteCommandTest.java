@@ -52,6 +52,19 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_personWithArchivedAppointments_throwsCommandException() {
+        Model archivedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public boolean hasArchivedAppointments(Person person) {
+                return true;
+            }
+        };
+        DeleteCommand deleteCommand = new DeleteCommand(INDEX_FIRST_PERSON);
+
+        assertCommandFailure(deleteCommand, archivedModel, Messages.MESSAGE_PERSON_WITH_ARCHIVED_APPOINTMENTS);
+    }
+
     @Test
     public void execute_validIndexFilteredList_success() {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
@@ -100,6 +100,20 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, EditCommand.MESSAGE_DUPLICATE_PERSON);
     }
 
+    @Test
+    public void execute_nricOfPersonWithArchivedAppointments_failure() {
+        Model archivedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public boolean hasArchivedAppointments(Person person) {
+                return true;
+            }
+        };
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withNric("S7654321B").build();
+        EditCommand editCommand = new EditCommand(INDEX_FIRST_PERSON, descriptor);
+
+        assertCommandFailure(editCommand, archivedModel, Messages.MESSAGE_PERSON_WITH_ARCHIVED_APPOINTMENTS);
+    }
+
     @Test
     public void execute_invalidPersonIndexUnfilteredList_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -9,6 +9,9 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.CARL_GOH;
+import static seedu.address.testutil.TypicalPersons.DAMES;
+import static seedu.address.testutil.TypicalPersons.ERIN;
+import static seedu.address.testutil.TypicalPersons.GON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -20,6 +23,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameNearKeywordsPredicate;
+import seedu.address.model.person.NameSoundsLikeKeywordsPredicate;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -95,6 +100,39 @@ public class FindCommandTest {
         assertTrue(model.getFilteredPersonList().isEmpty());
     }
 
+    @Test
+    public void execute_fuzzyKeywords_closestMatchesFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4);
+        NameNearKeywordsPredicate predicate = new NameNearKeywordsPredicate(Arrays.asList("Tann", "Chen"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate, predicate.closestFirst());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        // "Cher" is a single typo away from "Chen"
+        assertEquals(Arrays.asList(BENSON, DAMES, ERIN, GON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_soundsLikeKeywords_soundAlikePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        NameSoundsLikeKeywordsPredicate predicate =
+                new NameSoundsLikeKeywordsPredicate(Arrays.asList("Bensen", "Tahn"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DAMES, GON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals_fuzzyCommand() {
+        NameNearKeywordsPredicate predicate = new NameNearKeywordsPredicate(Collections.singletonList("first"));
+        FindCommand fuzzyCommand = new FindCommand(predicate);
+
+        assertTrue(fuzzyCommand.equals(new FindCommand(new NameNearKeywordsPredicate(
+                Collections.singletonList("first")))));
+        assertFalse(fuzzyCommand.equals(new FindCommand(
+                new NameContainsKeywordsPredicate(Collections.singletonList("first")))));
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
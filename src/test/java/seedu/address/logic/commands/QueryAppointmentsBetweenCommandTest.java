@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_APPOINTMENTS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_1;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_2;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.AppointmentDateTime;
+
+public class QueryAppointmentsBetweenCommandTest {
+    private static final AppointmentDateTime FROM = new AppointmentDateTime("2124-03-19 00:00");
+    private static final AppointmentDateTime TO = new AppointmentDateTime("2124-03-20 23:59");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        QueryAppointmentsBetweenCommand firstCommand = new QueryAppointmentsBetweenCommand(FROM, TO);
+        QueryAppointmentsBetweenCommand secondCommand = new QueryAppointmentsBetweenCommand(FROM, FROM);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new QueryAppointmentsBetweenCommand(FROM, TO)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_rangeWithAppointments_appointmentsFound() {
+        String expectedMessage = String.format(MESSAGE_APPOINTMENTS_LISTED_OVERVIEW, 2);
+        QueryAppointmentsBetweenCommand command = new QueryAppointmentsBetweenCommand(FROM, TO);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(APPOINTMENT_1, APPOINTMENT_2), model.getFilteredAppointmentList());
+    }
+
+    @Test
+    public void execute_boundsAreInclusive_appointmentFound() {
+        String expectedMessage = String.format(MESSAGE_APPOINTMENTS_LISTED_OVERVIEW, 1);
+        AppointmentDateTime exact = APPOINTMENT_1.getAppointmentDateTime();
+        QueryAppointmentsBetweenCommand command = new QueryAppointmentsBetweenCommand(exact, exact);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(APPOINTMENT_1), model.getFilteredAppointmentList());
+    }
+
+    @Test
+    public void execute_rangeWithoutAppointments_noAppointmentsFound() {
+        String expectedMessage = String.format(MESSAGE_APPOINTMENTS_LISTED_OVERVIEW, 0);
+        AppointmentDateTime empty = new AppointmentDateTime("2124-01-01 00:00");
+        QueryAppointmentsBetweenCommand command = new QueryAppointmentsBetweenCommand(empty, empty);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredAppointmentList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        QueryAppointmentsBetweenCommand command = new QueryAppointmentsBetweenCommand(FROM, TO);
+        String expected = QueryAppointmentsBetweenCommand.class.getCanonicalName()
+                + "{from=" + FROM + ", to=" + TO + "}";
+        assertEquals(expected, command.toString());
+    }
+}
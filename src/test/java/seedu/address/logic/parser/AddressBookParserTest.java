@@ -29,6 +29,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.QueryAppointmentsBetweenCommand;
 import seedu.address.logic.commands.QueryDoctorAppointmentCommand;
 import seedu.address.logic.commands.QueryDoctorCommand;
 import seedu.address.logic.commands.QueryPatientAppointmentCommand;
@@ -152,6 +153,14 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_apptbetween() throws Exception {
+        QueryAppointmentsBetweenCommand command = (QueryAppointmentsBetweenCommand) parser.parseCommand(
+                QueryAppointmentsBetweenCommand.COMMAND_WORD + " from/2124-03-19 00:00 to/2124-03-20 23:59");
+        assertEquals(new QueryAppointmentsBetweenCommand(new AppointmentDateTime("2124-03-19 00:00"),
+                new AppointmentDateTime("2124-03-20 23:59")), command);
+    }
+
     @Test
     public void parseCommand_querydoctor() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -8,6 +8,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.DeleteAppointmentCommand;
+import seedu.address.model.appointment.AppointmentId;
 
 /**
  * As we are only doing white-box testing, our test cases do not cover path variations
@@ -25,6 +26,18 @@ public class DeleteAppointmentCommandParserTest {
         assertParseSuccess(parser, "1", new DeleteAppointmentCommand(INDEX_FIRST_PERSON));
     }
 
+    @Test
+    public void parse_validAppointmentId_returnsDeleteCommand() {
+        assertParseSuccess(parser, " id/a00000001 ", new DeleteAppointmentCommand(new AppointmentId("a00000001")));
+    }
+
+    @Test
+    public void parse_invalidAppointmentId_throwsParseException() {
+        assertParseFailure(parser, " id/b00000001", AppointmentId.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " 1 id/a00000001", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                DeleteAppointmentCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         String expectedString = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -10,6 +10,8 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameNearKeywordsPredicate;
+import seedu.address.model.person.NameSoundsLikeKeywordsPredicate;
 
 public class FindCommandParserTest {
 
@@ -31,4 +33,26 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyOption_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameNearKeywordsPredicate(Arrays.asList("Alise", "Bob")));
+        assertParseSuccess(parser, " --fuzzy  Alise \t Bob", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_soundsLikeOption_returnsSoundsLikeFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameSoundsLikeKeywordsPredicate(Arrays.asList("Muhammad", "Bob")));
+        assertParseSuccess(parser, "--sounds-like Muhammad Bob", expectedFindCommand);
+        assertParseFailure(parser, "--sounds-like",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fuzzyOptionWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, " --fuzzy ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryAppointmentsBetweenCommand;
+import seedu.address.model.appointment.AppointmentDateTime;
+
+public class QueryAppointmentsBetweenCommandParserTest {
+    private QueryAppointmentsBetweenCommandParser parser = new QueryAppointmentsBetweenCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsQueryAppointmentsBetweenCommand() {
+        QueryAppointmentsBetweenCommand expectedCommand = new QueryAppointmentsBetweenCommand(
+                new AppointmentDateTime("2124-03-19 00:00"), new AppointmentDateTime("2124-03-20 23:59"));
+        assertParseSuccess(parser, " from/2124-03-19 00:00 to/2124-03-20 23:59", expectedCommand);
+    }
+
+    @Test
+    public void parse_missingPrefix_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                QueryAppointmentsBetweenCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " from/2124-03-19 00:00", expectedMessage);
+        assertParseFailure(parser, "     ", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidDateTime_throwsParseException() {
+        assertParseFailure(parser, " from/2124-03-19 to/2124-03-20 23:59", AppointmentDateTime.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_startAfterEnd_throwsParseException() {
+        assertParseFailure(parser, " from/2124-03-20 00:00 to/2124-03-19 00:00",
+                QueryAppointmentsBetweenCommandParser.MESSAGE_INVALID_RANGE);
+    }
+}
@@ -9,7 +9,9 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.QueryPatientCommand;
+import seedu.address.model.person.NameNearKeywordsPredicate;
 import seedu.address.model.person.PatientContainsKeywordsPredicate;
+import seedu.address.model.person.Type;
 
 public class QueryPatientCommandParserTest {
 
@@ -32,4 +34,11 @@ public class QueryPatientCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedQueryCommand);
     }
 
+    @Test
+    public void parse_fuzzyOption_returnsFuzzyQueryCommand() {
+        QueryPatientCommand expectedQueryCommand = new QueryPatientCommand(
+                new NameNearKeywordsPredicate(Arrays.asList("Alise", "Bob"), Type.PATIENT));
+        assertParseSuccess(parser, "--fuzzy Alise Bob", expectedQueryCommand);
+    }
+
 }
@@ -2,11 +2,13 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_1;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BROWN;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.ArrayList;
@@ -21,10 +23,13 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.person.Doctor;
 import seedu.address.model.person.Nric;
+import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.AppointmentBuilder;
 import seedu.address.testutil.PatientBuilder;
 
 public class AddressBookTest {
@@ -152,6 +157,124 @@ public class AddressBookTest {
         assertTrue(addressBook.hasAppointment(APPOINTMENT_1));
     }
 
+    @Test
+    public void setPerson_nricChanged_updatesAppointmentsOfPerson() {
+        Appointment appointment = new AppointmentBuilder().withDateTime("2124-03-19 11:11")
+                .withDoctor((Doctor) BROWN).withPatient((Patient) ALICE).build();
+        addressBook.addPerson(ALICE);
+        addressBook.addAppointment(appointment);
+
+        Person editedAlice = new PatientBuilder(ALICE).withNric("S7654321B").build();
+        addressBook.setPerson(ALICE, editedAlice);
+
+        // Appointments are replaced rather than changed
+        assertEquals(ALICE.getNric(), appointment.getPatientNric());
+        List<Appointment> updated = addressBook.getAppointmentsByPatientNric(editedAlice.getNric());
+        assertEquals(1, updated.size());
+        assertEquals(editedAlice.getNric(), updated.get(0).getPatientNric());
+        assertEquals(appointment.getAppointmentId(), updated.get(0).getAppointmentId());
+        assertEquals(updated, addressBook.getAppointmentList());
+        assertTrue(addressBook.getAppointmentsByPatientNric(ALICE.getNric()).isEmpty());
+    }
+
+    @Test
+    public void removePerson_personWithAppointments_removesAppointments() {
+        Appointment appointment = new AppointmentBuilder().withDateTime("2124-03-19 11:11")
+                .withDoctor((Doctor) BROWN).withPatient((Patient) ALICE).build();
+        addressBook.addPerson(ALICE);
+        addressBook.addAppointment(appointment);
+
+        addressBook.removePerson(ALICE);
+
+        assertTrue(addressBook.getAppointmentList().isEmpty());
+        assertTrue(addressBook.getAppointmentsByDoctorNric(BROWN.getNric()).isEmpty());
+    }
+
+    @Test
+    public void getChanges_afterMarkChangesSaved_isEmpty() {
+        addressBook.addPerson(ALICE);
+        assertFalse(addressBook.getChanges().isEmpty());
+
+        addressBook.markChangesSaved();
+        assertTrue(addressBook.getChanges().isEmpty());
+    }
+
+    @Test
+    public void getChanges_resetData_isReset() {
+        addressBook.markChangesSaved();
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getChanges().isReset());
+    }
+
+    @Test
+    public void getChanges_setPersonWithNewNric_recordsPersonAndAppointments() {
+        Appointment appointment = new AppointmentBuilder().withDateTime("2124-03-19 11:11")
+                .withDoctor((Doctor) BROWN).withPatient((Patient) ALICE).build();
+        addressBook.addPerson(ALICE);
+        addressBook.addAppointment(appointment);
+        addressBook.markChangesSaved();
+
+        Person editedAlice = new PatientBuilder(ALICE).withNric("S7654321B").build();
+        addressBook.setPerson(ALICE, editedAlice);
+
+        AddressBookChanges changes = addressBook.getChanges();
+        assertFalse(changes.isReset());
+        assertEquals(Collections.singletonList(ALICE), changes.getRemovedPersons());
+        assertEquals(Collections.singletonList(editedAlice), changes.getAddedPersons());
+        assertEquals(Collections.singletonList(appointment), changes.getRemovedAppointments());
+        Appointment replacement = addressBook.getAppointmentList().get(0);
+        assertEquals(Collections.singletonList(replacement), changes.getAddedAppointments());
+        assertSame(replacement, changes.getReplacement(appointment));
+        assertSame(editedAlice, changes.getReplacement(ALICE));
+    }
+
+    @Test
+    public void getChanges_removePersonWithAppointments_recordsPersonAndAppointments() {
+        Appointment appointment = new AppointmentBuilder().withDateTime("2124-03-19 11:11")
+                .withDoctor((Doctor) BROWN).withPatient((Patient) ALICE).build();
+        addressBook.addPerson(ALICE);
+        addressBook.addAppointment(appointment);
+        addressBook.markChangesSaved();
+
+        addressBook.removePerson(ALICE);
+
+        AddressBookChanges changes = addressBook.getChanges();
+        assertEquals(Collections.singletonList(ALICE), changes.getRemovedPersons());
+        assertEquals(Collections.singletonList(appointment), changes.getRemovedAppointments());
+        assertTrue(changes.getAddedPersons().isEmpty());
+        assertTrue(changes.getAddedAppointments().isEmpty());
+    }
+
+    @Test
+    public void mergedWith_personAddedThenRemoved_recordedAsRemovedOnly() {
+        addressBook.markChangesSaved();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BROWN);
+        AddressBookChanges earlier = addressBook.getChanges();
+        addressBook.markChangesSaved();
+        addressBook.removePerson(ALICE);
+
+        AddressBookChanges merged = earlier.mergedWith(addressBook.getChanges());
+        assertEquals(Collections.singletonList(BROWN), merged.getAddedPersons());
+        assertEquals(Collections.singletonList(ALICE), merged.getRemovedPersons());
+
+        // the merged changes are independent of the originals
+        assertEquals(Arrays.asList(ALICE, BROWN), earlier.getAddedPersons());
+    }
+
+    @Test
+    public void mergedWith_laterReset_isReset() {
+        addressBook.markChangesSaved();
+        addressBook.addPerson(ALICE);
+        AddressBookChanges earlier = addressBook.getChanges();
+        addressBook.markChangesSaved();
+        addressBook.resetData(getTypicalAddressBook());
+
+        AddressBookChanges merged = earlier.mergedWith(addressBook.getChanges());
+        assertTrue(merged.isReset());
+        assertTrue(merged.getAddedPersons().isEmpty());
+    }
+
     @Test
     public void equalsMethod() {
         // same object
@@ -0,0 +1,97 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_1;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_2;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_4;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BROWN;
+import static seedu.address.testutil.TypicalPersons.CAM;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Nric;
+import seedu.address.testutil.TypicalAppointments;
+
+public class AppointmentReferenceCheckTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AppointmentReferenceCheck(null));
+    }
+
+    @Test
+    public void constructor_allReferencesValid_passed() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BROWN);
+        addressBook.addAppointment(APPOINTMENT_1);
+
+        AppointmentReferenceCheck check = new AppointmentReferenceCheck(addressBook);
+        assertTrue(check.isPassed());
+        assertTrue(check.getProblems().isEmpty());
+        assertSame(addressBook, check.getValidAddressBook());
+    }
+
+    @Test
+    public void constructor_danglingReferences_onlyDanglingAppointmentsLeftOut() {
+        // APPOINTMENT_2's patient and APPOINTMENT_4's doctor and patient are not in the address book
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BROWN);
+        addressBook.addAppointment(APPOINTMENT_2);
+        addressBook.addAppointment(APPOINTMENT_1);
+        addressBook.addAppointment(APPOINTMENT_4);
+
+        AppointmentReferenceCheck check = new AppointmentReferenceCheck(addressBook);
+        assertFalse(check.isPassed());
+        assertEquals(Arrays.asList(APPOINTMENT_2, APPOINTMENT_4), check.getDanglingAppointments());
+        assertEquals(3, check.getProblems().size());
+        assertEquals(String.format(AppointmentReferenceCheck.MESSAGE_MISSING_PATIENT,
+                APPOINTMENT_2.getAppointmentId(), CAM.getNric()), check.getProblems().get(0));
+
+        ReadOnlyAddressBook validAddressBook = check.getValidAddressBook();
+        assertEquals(addressBook.getPersonList(), validAddressBook.getPersonList());
+        assertEquals(Arrays.asList(APPOINTMENT_1), validAddressBook.getAppointmentList());
+    }
+
+    @Test
+    public void constructor_rolesSwapped_dangling() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BROWN);
+        Appointment swapped = new Appointment(ALICE.getNric(), BROWN.getNric(),
+                APPOINTMENT_1.getAppointmentDateTime());
+        addressBook.addAppointment(swapped);
+
+        AppointmentReferenceCheck check = new AppointmentReferenceCheck(addressBook);
+        assertEquals(Arrays.asList(swapped), check.getDanglingAppointments());
+        assertEquals(2, check.getProblems().size());
+    }
+
+    @Test
+    public void constructor_nricInDifferentCase_passed() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BROWN);
+        addressBook.addAppointment(new Appointment(new Nric(BROWN.getNric().nric.toLowerCase()),
+                new Nric(ALICE.getNric().nric.toLowerCase()), APPOINTMENT_1.getAppointmentDateTime()));
+
+        assertTrue(new AppointmentReferenceCheck(addressBook).isPassed());
+    }
+
+    @Test
+    public void constructor_noPersons_allAppointmentsDangling() {
+        AddressBook addressBook = TypicalAppointments.getTypicalAddressBook();
+        AppointmentReferenceCheck check = new AppointmentReferenceCheck(addressBook);
+        assertEquals(addressBook.getAppointmentList(), check.getDanglingAppointments());
+        assertTrue(check.getValidAddressBook().getAppointmentList().isEmpty());
+    }
+}
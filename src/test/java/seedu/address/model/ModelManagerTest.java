@@ -3,15 +3,23 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_APPOINTMENTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_1;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_2;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_4;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BROWN;
+import static seedu.address.testutil.TypicalPersons.CAM;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DAMES;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,12 +27,15 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentDateTime;
+import seedu.address.model.appointment.AppointmentId;
 import seedu.address.model.person.Doctor;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PatientBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class ModelManagerTest {
@@ -169,6 +180,56 @@ public class ModelManagerTest {
         assertFalse(modelManager.hasPerson(p0));
     }
 
+    @Test
+    public void updateFilteredPersonList_candidates_matchingCandidatesShown() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        List<String> keywords = Arrays.asList("Carl", "Alice");
+        modelManager.updateFilteredPersonList(modelManager.getPersonNameWordCandidates(keywords),
+                new NameContainsKeywordsPredicate(keywords));
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_candidatesShownThenPersonsChanged_changesShown() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        List<String> keywords = Arrays.asList("Alice", "Carl");
+        modelManager.updateFilteredPersonList(modelManager.getPersonNameWordCandidates(keywords),
+                new NameContainsKeywordsPredicate(keywords));
+
+        modelManager.deletePerson(CARL);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PatientBuilder(ALICE).withName("Alice Tan").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredAppointmentList_appointments_shownInListOrder() {
+        for (Person person : Arrays.asList(ALICE, BENSON, CAM, BROWN, DAMES)) {
+            modelManager.addPerson(person);
+        }
+        modelManager.addAppointment(APPOINTMENT_1);
+        modelManager.addAppointment(APPOINTMENT_2);
+        modelManager.addAppointment(APPOINTMENT_4);
+
+        modelManager.updateFilteredAppointmentList(Arrays.asList(APPOINTMENT_4, APPOINTMENT_1));
+        assertEquals(Arrays.asList(APPOINTMENT_1, APPOINTMENT_4), modelManager.getFilteredAppointmentList());
+
+        modelManager.deleteAppointment(APPOINTMENT_1);
+        assertEquals(Arrays.asList(APPOINTMENT_4), modelManager.getFilteredAppointmentList());
+
+        modelManager.updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
+        assertEquals(Arrays.asList(APPOINTMENT_2, APPOINTMENT_4), modelManager.getFilteredAppointmentList());
+    }
+
     @Test
     public void isValidAppointment_validAppointment_returnsTrue() {
         Doctor d = (Doctor) TypicalPersons.BROWN;
@@ -188,4 +249,79 @@ public class ModelManagerTest {
         Appointment a = new Appointment(ALICE.getNric(), BROWN.getNric(), new AppointmentDateTime("2024-08-30 11:02"));
         assertFalse(modelManager.isValidAppointment(a));
     }
+
+    @Test
+    public void getAppointmentsByPatientNric_pastAppointmentLoader_loadedAppointmentsAdded() throws Exception {
+        Appointment past = new Appointment(BROWN.getNric(), ALICE.getNric(),
+                new AppointmentDateTime("2020-01-10 09:00"), new AppointmentId("a00000001"), true);
+        PastAppointmentLoaderStub loader = new PastAppointmentLoaderStub(past);
+        ModelManager model = new ModelManager(new AddressBook(), new UserPrefs(), loader);
+        model.markAddressBookChangesSaved();
+
+        assertEquals(Arrays.asList(past), model.getAppointmentsByPatientNric(ALICE.getNric()));
+        assertEquals(Arrays.asList(past), model.getAppointmentsByDoctorNric(BROWN.getNric()));
+        assertEquals(Arrays.asList(past), model.getAppointmentsBetween(new AppointmentDateTime("2020-01-01 00:00"),
+                new AppointmentDateTime("2020-01-31 23:59")));
+        assertEquals(Arrays.asList(past), model.getAddressBookChanges().getLoadedAppointments());
+        assertTrue(model.getAddressBookChanges().isEmpty());
+    }
+
+    @Test
+    public void setAddressBook_pastAppointmentLoader_unloadedMonthsDiscarded() {
+        PastAppointmentLoaderStub loader = new PastAppointmentLoaderStub();
+        ModelManager model = new ModelManager(new AddressBook(), new UserPrefs(), loader);
+        model.setAddressBook(new AddressBook());
+        assertTrue(loader.isDiscarded);
+    }
+
+    @Test
+    public void isArchivedAppointment_pastAppointmentLoader_delegatedToLoader() throws Exception {
+        Appointment past = new Appointment(BROWN.getNric(), ALICE.getNric(),
+                new AppointmentDateTime("2020-01-10 09:00"), new AppointmentId("a00000001"), true);
+        ModelManager model = new ModelManager(new AddressBook(), new UserPrefs(), new PastAppointmentLoaderStub(past));
+        assertTrue(model.isArchivedAppointment(past));
+        assertFalse(modelManager.isArchivedAppointment(past));
+    }
+
+    /**
+     * A loader that returns the same archived past appointments each time, to check that they are only added once.
+     */
+    private static class PastAppointmentLoaderStub implements PastAppointmentLoader {
+        private final List<Appointment> appointments;
+        private boolean isDiscarded = false;
+
+        PastAppointmentLoaderStub(Appointment... appointments) {
+            this.appointments = Arrays.asList(appointments);
+        }
+
+        @Override
+        public List<Appointment> loadMonthsWithDoctor(Nric doctorNric) {
+            return appointments;
+        }
+
+        @Override
+        public List<Appointment> loadMonthsWithPatient(Nric patientNric) {
+            return appointments;
+        }
+
+        @Override
+        public List<Appointment> loadMonthsBetween(AppointmentDateTime from, AppointmentDateTime to) {
+            return appointments;
+        }
+
+        @Override
+        public List<Appointment> loadMonthWithId(AppointmentId appointmentId) {
+            return appointments;
+        }
+
+        @Override
+        public boolean isArchived(Appointment appointment) {
+            return appointments.contains(appointment);
+        }
+
+        @Override
+        public void discardUnloadedMonths() {
+            isDiscarded = true;
+        }
+    }
 }
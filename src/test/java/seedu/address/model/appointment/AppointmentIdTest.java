@@ -1,5 +1,6 @@
 package seedu.address.model.appointment;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -24,6 +25,20 @@ class AppointmentIdTest {
         assertFalse(aid.equals(new AppointmentId()));
     }
 
+    @Test
+    public void equals_sameId_returnsTrue() {
+        AppointmentId aid = new AppointmentId("a00000042");
+        assertTrue(aid.equals(new AppointmentId("a00000042")));
+        assertEquals(aid.hashCode(), new AppointmentId("a00000042").hashCode());
+        assertFalse(aid.equals("a00000042"));
+        assertFalse(aid.equals(null));
+    }
+
+    @Test
+    public void toString_leadingZeros_kept() {
+        assertEquals("a00000042", new AppointmentId("a00000042").toString());
+        assertEquals("a99999999", new AppointmentId("a99999999").toString());
+    }
 
     @Test
     void hashCode_returnsValidHash() {
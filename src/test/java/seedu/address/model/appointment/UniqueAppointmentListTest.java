@@ -2,18 +2,34 @@ package seedu.address.model.appointment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_1;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_2;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_3;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_4;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAppointments;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BROWN;
+import static seedu.address.testutil.TypicalPersons.DAMES;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.person.Doctor;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Patient;
 import seedu.address.testutil.AppointmentBuilder;
 
 public class UniqueAppointmentListTest {
@@ -195,6 +211,22 @@ public class UniqueAppointmentListTest {
                 uniqueAppointmentList.setAppointments(listWithDuplicateAppointments));
     }
 
+    @Test
+    public void setAppointments_listWithSameIdentityAppointments_throwsDuplicateAppointmentException()
+            throws ParseException {
+        Appointment copy = new Appointment(APPOINTMENT_1.getDoctorNric(), APPOINTMENT_1.getPatientNric(),
+                APPOINTMENT_1.getAppointmentDateTime());
+        List<Appointment> listWithDuplicateAppointments = Arrays.asList(APPOINTMENT_1, APPOINTMENT_2, copy);
+        assertThrows(DuplicateAppointmentException.class, () ->
+                uniqueAppointmentList.setAppointments(listWithDuplicateAppointments));
+    }
+
+    @Test
+    public void setAppointments_listWithDistinctAppointments_success() throws DuplicateAppointmentException {
+        uniqueAppointmentList.setAppointments(getTypicalAppointments());
+        assertEquals(getTypicalAppointments(), uniqueAppointmentList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -206,4 +238,151 @@ public class UniqueAppointmentListTest {
         assertEquals(uniqueAppointmentList.asUnmodifiableObservableList().toString(), uniqueAppointmentList.toString());
     }
 
+    @Test
+    public void getAppointmentsByDoctorNric_doctorHasAppointments_returnsAppointments() {
+        uniqueAppointmentList.setAppointmentsExistingBook(getTypicalAppointments());
+        assertEquals(Arrays.asList(APPOINTMENT_1, APPOINTMENT_2, APPOINTMENT_3),
+                uniqueAppointmentList.getAppointmentsByDoctorNric(BROWN.getNric()));
+        assertEquals(Collections.emptyList(), uniqueAppointmentList.getAppointmentsByDoctorNric(ALICE.getNric()));
+    }
+
+    @Test
+    public void getAppointmentsByPatientNric_patientHasAppointments_returnsAppointments() {
+        uniqueAppointmentList.setAppointmentsExistingBook(getTypicalAppointments());
+        assertEquals(Collections.singletonList(APPOINTMENT_4),
+                uniqueAppointmentList.getAppointmentsByPatientNric(BENSON.getNric()));
+    }
+
+    @Test
+    public void removeAppointmentsOf_doctorWithAppointments_removesOnlyTheirAppointments() {
+        uniqueAppointmentList.setAppointmentsExistingBook(getTypicalAppointments());
+        uniqueAppointmentList.removeAppointmentsOf(BROWN);
+        assertEquals(Collections.singletonList(APPOINTMENT_4), uniqueAppointmentList.asUnmodifiableObservableList());
+        assertTrue(uniqueAppointmentList.getAppointmentsByDoctorNric(BROWN.getNric()).isEmpty());
+        assertTrue(uniqueAppointmentList.getAppointmentsByPatientNric(ALICE.getNric()).isEmpty());
+    }
+
+    @Test
+    public void remove_indexedAppointment_removesFromIndexes() {
+        uniqueAppointmentList.add(APPOINTMENT_4);
+        uniqueAppointmentList.remove(APPOINTMENT_4);
+        assertTrue(uniqueAppointmentList.getAppointmentsByDoctorNric(DAMES.getNric()).isEmpty());
+        assertTrue(uniqueAppointmentList.getAppointmentsByPatientNric(BENSON.getNric()).isEmpty());
+    }
+
+    @Test
+    public void getAppointmentById_afterChanges_followsList() {
+        uniqueAppointmentList.setAppointmentsExistingBook(getTypicalAppointments());
+        AppointmentId id = APPOINTMENT_2.getAppointmentId();
+        assertEquals(Optional.of(APPOINTMENT_2), uniqueAppointmentList.getAppointmentById(
+                new AppointmentId(id.toString())));
+
+        uniqueAppointmentList.setAppointment(APPOINTMENT_2, APPOINTMENT_3);
+        assertEquals(Optional.empty(), uniqueAppointmentList.getAppointmentById(id));
+
+        uniqueAppointmentList.remove(APPOINTMENT_4);
+        assertEquals(Optional.empty(), uniqueAppointmentList.getAppointmentById(APPOINTMENT_4.getAppointmentId()));
+        assertTrue(uniqueAppointmentList.getAppointmentById(APPOINTMENT_1.getAppointmentId()).isPresent());
+    }
+
+    @Test
+    public void contains_afterRemovingEarlierAppointment_findsLaterAppointments() {
+        uniqueAppointmentList.setAppointmentsExistingBook(getTypicalAppointments());
+        uniqueAppointmentList.remove(APPOINTMENT_2);
+
+        assertFalse(uniqueAppointmentList.contains(APPOINTMENT_2));
+        assertTrue(uniqueAppointmentList.contains(APPOINTMENT_3));
+        uniqueAppointmentList.remove(APPOINTMENT_4);
+        assertEquals(Arrays.asList(APPOINTMENT_1, APPOINTMENT_3), uniqueAppointmentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void contains_afterPersonNricUpdated_findsAppointmentByNewNric() throws ParseException {
+        Appointment appointment = new AppointmentBuilder(APPOINTMENT_4).build();
+        uniqueAppointmentList.add(new AppointmentBuilder(APPOINTMENT_1).build());
+        uniqueAppointmentList.add(appointment);
+        uniqueAppointmentList.updatePersonNric(DAMES.getNric(), BROWN.getNric());
+
+        assertTrue(uniqueAppointmentList.contains(new Appointment(BROWN.getNric(), BENSON.getNric(),
+                APPOINTMENT_4.getAppointmentDateTime())));
+        assertFalse(uniqueAppointmentList.contains(APPOINTMENT_4));
+        assertNull(uniqueAppointmentList.remove(APPOINTMENT_4));
+    }
+
+    @Test
+    public void get_appointmentStillReferenced_sameObjectReturned() {
+        uniqueAppointmentList.setAppointmentsExistingBook(getTypicalAppointments());
+        assertSame(APPOINTMENT_3, uniqueAppointmentList.asUnmodifiableObservableList().get(2));
+        assertSame(APPOINTMENT_3, uniqueAppointmentList.getAppointmentById(APPOINTMENT_3.getAppointmentId()).get());
+    }
+
+    @Test
+    public void get_appointmentNotReferenced_equalAppointmentWithSameIdReturned() {
+        AppointmentColumns columns = new AppointmentColumns(false);
+        int slot = columns.add(new AppointmentBuilder(APPOINTMENT_4).build());
+        AppointmentId id = columns.get(slot).getAppointmentId();
+
+        // Whether or not the appointment has been collected by now, the one in the slot is the same appointment
+        System.gc();
+        assertEquals(APPOINTMENT_4, columns.get(slot));
+        assertEquals(id, columns.get(slot).getAppointmentId());
+    }
+
+    @Test
+    public void updatePersonNric_appointmentsOfPerson_otherIndexesUnchanged() {
+        uniqueAppointmentList.setAppointmentsExistingBook(getTypicalAppointments());
+        Nric newNric = Nric.of("S7654321B");
+        Map<Appointment, Appointment> replacements =
+                uniqueAppointmentList.updatePersonNric(BENSON.getNric(), newNric);
+
+        Appointment replacement = replacements.get(APPOINTMENT_4);
+        assertEquals(1, replacements.size());
+        assertSame(replacement, uniqueAppointmentList.asUnmodifiableObservableList().get(3));
+        assertSame(replacement, uniqueAppointmentList.getAppointmentById(APPOINTMENT_4.getAppointmentId()).get());
+        assertEquals(Collections.singletonList(replacement), uniqueAppointmentList.getAppointmentsBetween(
+                APPOINTMENT_4.getAppointmentDateTime(), APPOINTMENT_4.getAppointmentDateTime()));
+        assertEquals(Collections.singletonList(replacement),
+                uniqueAppointmentList.getAppointmentsByPatientNric(newNric));
+        assertTrue(uniqueAppointmentList.getAppointmentsByPatientNric(BENSON.getNric()).isEmpty());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modify_throwsUnsupportedOperationException() {
+        uniqueAppointmentList.add(APPOINTMENT_1);
+        assertThrows(UnsupportedOperationException.class, () ->
+                uniqueAppointmentList.asUnmodifiableObservableList().remove(0));
+        assertThrows(UnsupportedOperationException.class, () ->
+                uniqueAppointmentList.asUnmodifiableObservableList().add(APPOINTMENT_2));
+    }
+
+    @Test
+    public void setColumnsOffHeap_true_newListsBehaveTheSame() {
+        UniqueAppointmentList.setColumnsOffHeap(true);
+        UniqueAppointmentList offHeapList;
+        try {
+            offHeapList = new UniqueAppointmentList();
+        } finally {
+            UniqueAppointmentList.setColumnsOffHeap(false);
+        }
+        assertTrue(offHeapList.isColumnsOffHeap());
+        assertFalse(uniqueAppointmentList.isColumnsOffHeap());
+
+        // More appointments than the initial capacity, so that the records are moved to a larger buffer
+        offHeapList.setAppointmentsExistingBook(getTypicalAppointments());
+        List<Appointment> added = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            added.add(new AppointmentBuilder().withDateTime("2124-04-" + (10 + i) + " 09:30")
+                    .withDoctor((Doctor) DAMES).withPatient((Patient) BENSON).build());
+            offHeapList.add(added.get(i));
+        }
+        uniqueAppointmentList.setAppointmentsExistingBook(offHeapList.asUnmodifiableObservableList());
+        assertEquals(uniqueAppointmentList, offHeapList);
+
+        offHeapList.remove(APPOINTMENT_2);
+        Appointment last = added.get(19);
+        assertEquals(Optional.of(last), offHeapList.getAppointmentById(last.getAppointmentId()));
+        assertEquals(added.subList(0, 2), offHeapList.getAppointmentsBetween(
+                added.get(0).getAppointmentDateTime(), added.get(1).getAppointmentDateTime()));
+        assertEquals(21, offHeapList.getAppointmentsByDoctorNric(DAMES.getNric()).size());
+    }
 }
@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PatientBuilder;
+
+public class NameSoundsLikeKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        NameSoundsLikeKeywordsPredicate firstPredicate =
+                new NameSoundsLikeKeywordsPredicate(Collections.singletonList("first"));
+        NameSoundsLikeKeywordsPredicate secondPredicate =
+                new NameSoundsLikeKeywordsPredicate(Arrays.asList("first", "second"));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameSoundsLikeKeywordsPredicate(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(Collections.singletonList("first"))));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_nameSoundsLikeKeyword_returnsTrue() {
+        NameSoundsLikeKeywordsPredicate predicate = new NameSoundsLikeKeywordsPredicate(Arrays.asList("Muhammad"));
+        assertTrue(predicate.test(new PatientBuilder().withName("Mohamed Ali").build()));
+
+        // only one keyword sounds alike
+        predicate = new NameSoundsLikeKeywordsPredicate(Arrays.asList("Zorro", "Bensen"));
+        assertTrue(predicate.test(new PatientBuilder().withName("Benson Chen").build()));
+    }
+
+    @Test
+    public void test_nameDoesNotSoundLikeKeyword_returnsFalse() {
+        NameSoundsLikeKeywordsPredicate predicate = new NameSoundsLikeKeywordsPredicate(Arrays.asList("Carol"));
+        assertFalse(predicate.test(new PatientBuilder().withName("Alice Bob").build()));
+
+        // keyword without letters
+        predicate = new NameSoundsLikeKeywordsPredicate(Arrays.asList("12345"));
+        assertFalse(predicate.test(new PatientBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        NameSoundsLikeKeywordsPredicate predicate = new NameSoundsLikeKeywordsPredicate(Arrays.asList("keyword"));
+        String expected = NameSoundsLikeKeywordsPredicate.class.getCanonicalName() + "{keywords=[keyword]}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NameWordBkTreeTest {
+
+    private final NameWordBkTree tree = new NameWordBkTree();
+
+    @BeforeEach
+    public void setUp() {
+        tree.add("alice");
+        tree.add("alicia");
+        tree.add("pauline");
+        tree.add("benson");
+        tree.add("chen");
+    }
+
+    @Test
+    public void add_duplicateWord_notAddedAgain() {
+        tree.add("alice");
+        assertEquals(5, tree.size());
+    }
+
+    @Test
+    public void getWordsNear_wordsWithinDistance_returnsWordsWithDistances() {
+        assertEquals(Map.of("alice", 1), tree.getWordsNear("alise", 1));
+        assertEquals(Map.of("alice", 1, "alicia", 2), tree.getWordsNear("alic", 2));
+        assertEquals(Map.of("chen", 0), tree.getWordsNear("chen", 0));
+    }
+
+    @Test
+    public void getWordsNear_noWordWithinDistance_returnsEmptyMap() {
+        assertTrue(tree.getWordsNear("zorro", 2).isEmpty());
+        assertTrue(tree.getWordsNear("alice", -1).isEmpty());
+        tree.clear();
+        assertTrue(tree.getWordsNear("alice", 2).isEmpty());
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -19,6 +21,19 @@ public class NricTest {
         assertThrows(IllegalArgumentException.class, () -> new Nric(invalidNric));
     }
 
+    @Test
+    public void constructor_lowerCaseNric_storedInUpperCase() {
+        assertEquals("S1234567A", new Nric("s1234567a").nric);
+    }
+
+    @Test
+    public void of_sameNricInAnyCase_returnsSharedNric() {
+        Nric nric = Nric.of("S7654321Z");
+        assertSame(nric, Nric.of("s7654321z"));
+        assertEquals(nric, new Nric("S7654321Z"));
+        assertThrows(IllegalArgumentException.class, () -> Nric.of("A0234"));
+    }
+
     @Test
     public void isValidNric() {
         // null name
@@ -56,5 +71,9 @@ public class NricTest {
 
         // different values -> returns false
         assertFalse(nric.equals(new Nric("S0123456A")));
+
+        // different case -> returns true, with the same hash code
+        assertTrue(nric.equals(new Nric("s1234567a")));
+        assertEquals(nric.hashCode(), new Nric("s1234567a").hashCode());
     }
 }
@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CAM;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PersonNameWordIndexTest {
+
+    private final PersonNameWordIndex index = new PersonNameWordIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CAM);
+    }
+
+    @Test
+    public void getPersonsWithWord_wordOfName_returnsPersonsIgnoringCase() {
+        assertEquals(Set.of(ALICE), index.getPersonsWithWord("pAULINE"));
+        assertEquals(Set.of(CAM), index.getPersonsWithWord("seng"));
+        assertEquals(Set.of(BENSON), index.getPersonsWithWord(" Benson "));
+    }
+
+    @Test
+    public void getPersonsWithWord_partOfWord_returnsEmptySet() {
+        assertTrue(index.getPersonsWithWord("Paul").isEmpty());
+        assertTrue(index.getPersonsWithWord("Alice Pauline").isEmpty());
+    }
+
+    @Test
+    public void remove_addedPerson_noLongerFound() {
+        index.remove(ALICE);
+        assertTrue(index.getPersonsWithWord("alice").isEmpty());
+        assertEquals(Set.of(BENSON), index.getPersonsWithWord("chen"));
+    }
+
+    @Test
+    public void getPersonsWithWordNear_misspeltWord_returnsPersonsWithClosestDistance() {
+        assertEquals(Map.of(ALICE, 1), index.getPersonsWithWordNear("Alise", 1));
+        assertEquals(Map.of(CAM, 1, BENSON, 2), index.getPersonsWithWordNear("sen", 2));
+        assertTrue(index.getPersonsWithWordNear("Alise", 0).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithWordNear_removedPerson_notReturned() {
+        index.remove(BENSON);
+        assertEquals(Map.of(CAM, 1), index.getPersonsWithWordNear("sen", 2));
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CAM;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PatientBuilder;
+
+public class PersonPhoneticIndexTest {
+
+    private final PersonPhoneticIndex index = new PersonPhoneticIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CAM);
+    }
+
+    @Test
+    public void getPersonsSoundingLike_soundAlikeWord_returnsPersons() {
+        assertEquals(Set.of(BENSON), index.getPersonsSoundingLike("Bensen"));
+        assertEquals(Set.of(ALICE), index.getPersonsSoundingLike("paulin"));
+        assertEquals(Set.of(CAM), index.getPersonsSoundingLike("Sang"));
+    }
+
+    @Test
+    public void getPersonsSoundingLike_transliteratedName_returnsPerson() {
+        Person mohamed = new PatientBuilder().withNric("S1111111A").withName("Mohamed Ali").build();
+        index.add(mohamed);
+        assertEquals(Set.of(mohamed), index.getPersonsSoundingLike("Muhammad"));
+    }
+
+    @Test
+    public void getPersonsSoundingLike_noSoundAlikeWord_returnsEmptySet() {
+        assertTrue(index.getPersonsSoundingLike("Zorro").isEmpty());
+        assertTrue(index.getPersonsSoundingLike("123").isEmpty());
+    }
+
+    @Test
+    public void remove_addedPerson_noLongerFound() {
+        index.remove(BENSON);
+        assertTrue(index.getPersonsSoundingLike("Bensen").isEmpty());
+        assertEquals(Set.of(ALICE), index.getPersonsSoundingLike("Alise"));
+    }
+}
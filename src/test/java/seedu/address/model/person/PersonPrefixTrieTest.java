@@ -0,0 +1,56 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CAM;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PersonPrefixTrieTest {
+
+    private final PersonPrefixTrie trie = new PersonPrefixTrie();
+
+    @BeforeEach
+    public void setUp() {
+        trie.add(ALICE);
+        trie.add(BENSON);
+        trie.add(CAM);
+    }
+
+    @Test
+    public void getPersonsWithPrefix_prefixOfNameWord_returnsPersons() {
+        assertEquals(Collections.singletonList(ALICE), trie.getPersonsWithPrefix("ALI", 10));
+        assertEquals(Collections.singletonList(ALICE), trie.getPersonsWithPrefix("paul", 10));
+        assertEquals(Collections.singletonList(CAM), trie.getPersonsWithPrefix("cam s", 10));
+    }
+
+    @Test
+    public void getPersonsWithPrefix_prefixOfNric_returnsClosestCompletionsFirst() {
+        assertEquals(Arrays.asList(BENSON, CAM), trie.getPersonsWithPrefix("s8", 10));
+        // "SENG" is a shorter completion of "s" than any NRIC, so CAM comes first
+        assertEquals(Arrays.asList(CAM, ALICE, BENSON), trie.getPersonsWithPrefix("s", 10));
+        assertEquals(Collections.singletonList(CAM), trie.getPersonsWithPrefix("s", 1));
+    }
+
+    @Test
+    public void getPersonsWithPrefix_noMatch_returnsEmptyList() {
+        assertTrue(trie.getPersonsWithPrefix("zed", 10).isEmpty());
+        assertTrue(trie.getPersonsWithPrefix(" ", 10).isEmpty());
+        assertTrue(trie.getPersonsWithPrefix("ali", 0).isEmpty());
+    }
+
+    @Test
+    public void remove_addedPerson_noLongerFound() {
+        trie.remove(BENSON);
+        List<Person> found = trie.getPersonsWithPrefix("s8", 10);
+        assertEquals(Collections.singletonList(CAM), found);
+        assertTrue(trie.getPersonsWithPrefix("benson", 10).isEmpty());
+    }
+}
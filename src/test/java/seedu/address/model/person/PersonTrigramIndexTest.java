@@ -0,0 +1,55 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CAM;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PersonTrigramIndexTest {
+
+    private final PersonTrigramIndex index = new PersonTrigramIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CAM);
+    }
+
+    @Test
+    public void getCandidates_substringOfOneField_returnsPersonsWithIt() {
+        assertEquals(Set.of(ALICE), index.getCandidates("PAULI").get());
+        assertEquals(Set.of(BENSON, CAM), index.getCandidates("892763").get());
+        assertEquals(Set.of(ALICE), index.getCandidates("2000-01").get());
+        assertEquals(Set.of(CAM), index.getCandidates("s88").get());
+    }
+
+    @Test
+    public void getCandidates_noPersonHasKeyword_returnsEmptySet() {
+        assertEquals(Collections.emptySet(), index.getCandidates("xyz").get());
+        // Trigrams are never taken across two fields
+        assertEquals(Collections.emptySet(), index.getCandidates("paulines12").get());
+    }
+
+    @Test
+    public void getCandidates_keywordTooShort_returnsEmptyOptional() {
+        assertEquals(Optional.empty(), index.getCandidates("al"));
+        assertEquals(Optional.empty(), index.getCandidates(" a "));
+    }
+
+    @Test
+    public void remove_addedPerson_noLongerCandidate() {
+        index.remove(BENSON);
+
+        assertEquals(Set.of(CAM), index.getCandidates("88927639").get());
+        assertFalse(index.getCandidates("benson").get().contains(BENSON));
+    }
+}
@@ -335,6 +335,14 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameNricDifferentCase_throwsDuplicatePersonException() {
+        Person aliceWithLowerCaseNric = new PatientBuilder(ALICE).withNric(ALICE.getNric().nric.toLowerCase())
+                .withName("Alice Tan").build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, aliceWithLowerCaseNric);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -376,6 +384,28 @@ public class UniquePersonListTest {
         assertFalse(uniquePersonList.containsNric(BOB.getNric().nric));
     }
 
+    @Test
+    public void containsNric_differentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.containsNric(ALICE.getNric().nric.toLowerCase()));
+    }
+
+    @Test
+    public void getPersonByNric_personReplaced_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(BOB, uniquePersonList.getPersonByNric(BOB.getNric()));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getPersonByNric(ALICE.getNric()));
+    }
+
+    @Test
+    public void getPersonByNric_personRemoved_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getPersonByNric(ALICE.getNric()));
+    }
+
     @Test
     public void iterator_returnsIteratorNotNull() {
         assertNotNull(uniquePersonList.iterator());
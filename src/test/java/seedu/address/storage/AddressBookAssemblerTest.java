@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PatientBuilder;
+
+public class AddressBookAssemblerTest {
+
+    private static final int RECORD_COUNT = 2000;
+
+    @Test
+    public void toModelTypes_manyRecords_orderKept() throws Exception {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        List<Person> expectedPersons = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            Person person = new PatientBuilder().withNric(String.format("S%07dA", i)).build();
+            adaptedPersons.add(new JsonAdaptedPerson(person));
+            expectedPersons.add(person);
+        }
+
+        assertEquals(expectedPersons, AddressBookAssembler.toModelTypes(adaptedPersons,
+                JsonAdaptedPerson::toModelType));
+    }
+
+    @Test
+    public void toModelTypes_manyInvalidRecords_firstFailureThrown() {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            values.add("valid");
+        }
+        values.set(RECORD_COUNT / 2, "first");
+        values.set(RECORD_COUNT - 1, "second");
+
+        assertThrows(IllegalValueException.class, "first", () -> AddressBookAssembler.toModelTypes(values, value -> {
+            if (!value.equals("valid")) {
+                throw new IllegalValueException(value);
+            }
+            return value;
+        }));
+    }
+
+    @Test
+    public void toAddressBook_batchesAdded_allRecordsInOrder() throws Exception {
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        assembler.addPersons(Arrays.asList(new JsonAdaptedPerson(ALICE)));
+        assembler.addPersons(new ArrayList<>());
+        assembler.addPersons(Arrays.asList(new JsonAdaptedPerson(BENSON)));
+
+        AddressBook expected = new AddressBook();
+        expected.addPerson(ALICE);
+        expected.addPerson(BENSON);
+        assertEquals(expected, assembler.toAddressBook());
+    }
+
+    @Test
+    public void toAddressBook_duplicatesInDifferentBatches_throwsIllegalValueException() throws Exception {
+        Person aliceInLowerCase = new PatientBuilder(BENSON)
+                .withNric(ALICE.getNric().nric.toLowerCase()).build();
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        assembler.addPersons(Arrays.asList(new JsonAdaptedPerson(ALICE)));
+        assembler.addPersons(Arrays.asList(new JsonAdaptedPerson(aliceInLowerCase)));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                assembler::toAddressBook);
+    }
+
+    @Test
+    public void addPersons_invalidPerson_throwsIllegalValueException() {
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        JsonAdaptedPerson invalidPerson = new JsonAdaptedPerson(ALICE.getType().toString(), "1234567",
+                ALICE.getName().fullName, ALICE.getDoB().dateOfBirth.toString(), ALICE.getPhone().value);
+
+        assertThrows(IllegalValueException.class, Nric.MESSAGE_CONSTRAINTS, () ->
+                assembler.addPersons(Arrays.asList(invalidPerson)));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.BinaryAddressBookStorageTest.getTypicalAddressBookWithAppointments;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+
+public class AddressBookFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void createStorage_eachFormat_matchingStorage() {
+        Path filePath = testFolder.resolve("data");
+        assertTrue(AddressBookFormatConverter.createStorage(filePath, AddressBookFormat.JSON)
+                instanceof JournaledAddressBookStorage);
+        assertTrue(AddressBookFormatConverter.createStorage(filePath, AddressBookFormat.BINARY)
+                instanceof BinaryAddressBookStorage);
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameJsonFile() throws Exception {
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        Path convertedJsonPath = testFolder.resolve("converted.json");
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(getTypicalAddressBookWithAppointments());
+
+        AddressBookFormatConverter.convert(
+                AddressBookFormatConverter.createStorage(jsonPath, AddressBookFormat.JSON),
+                AddressBookFormatConverter.createStorage(binaryPath, AddressBookFormat.BINARY));
+        AddressBookFormatConverter.convert(
+                AddressBookFormatConverter.createStorage(binaryPath, AddressBookFormat.BINARY),
+                AddressBookFormatConverter.createStorage(convertedJsonPath, AddressBookFormat.JSON));
+
+        assertEquals(FileUtil.readFromFile(jsonPath), FileUtil.readFromFile(convertedJsonPath));
+    }
+
+    @Test
+    public void convert_missingSource_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> AddressBookFormatConverter.convert(
+                new BinaryAddressBookStorage(testFolder.resolve("missing.bin")),
+                new JsonAddressBookStorage(testFolder.resolve("addressbook.json"))));
+    }
+}
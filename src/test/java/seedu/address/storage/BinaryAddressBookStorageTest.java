@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAppointments;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("data.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("data.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertReadBackEquals(original, storage.readAddressBook().get());
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertReadBackEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        Files.write(filePath, "{ \"persons\" : [ ] }".getBytes());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBook.write(new AddressBook(), out);
+        byte[] bytes = out.toByteArray();
+        ByteBuffer.wrap(bytes).putShort(Integer.BYTES, (short) (BinaryAddressBook.VERSION + 1));
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath, 0).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_previousVersionRead() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook());
+
+        // Flip a bit in the middle of the file, which the checksum catches
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+        assertReadBackEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("data.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    private static void assertReadBackEquals(AddressBook expected, ReadOnlyAddressBook readBack) {
+        assertEquals(expected, new AddressBook(readBack));
+        assertEquals(expected.getAppointmentList(), readBack.getAppointmentList());
+    }
+
+    /**
+     * Returns an address book with the typical persons and copies of the typical appointments,
+     * so that tests can modify it freely.
+     */
+    static AddressBook getTypicalAddressBookWithAppointments() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        getTypicalPersons().forEach(addressBook::addPerson);
+        for (Appointment appointment : getTypicalAppointments()) {
+            addressBook.addAppointment(new Appointment(appointment.getDoctorNric(), appointment.getPatientNric(),
+                    appointment.getAppointmentDateTime()));
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,208 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAppointments;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CAM;
+import static seedu.address.testutil.TypicalPersons.DANNY;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("data.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("data.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.readAddressBook();
+
+        // Save and read back through a new storage, as on the next launch
+        storage.saveAddressBookChanges(original, original.getChanges());
+        original.markChangesSaved();
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+        assertReadBackEquals(original, filePath);
+
+        // Modify data, save and read back
+        original.removePerson(ALICE);
+        original.addPerson(CAM);
+        storage.saveAddressBookChanges(original, original.getChanges());
+        assertReadBackEquals(original, filePath);
+    }
+
+    @Test
+    public void saveAddressBookChanges_noChanges_journalNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.readAddressBook();
+
+        storage.saveAddressBookChanges(original, original.getChanges());
+        original.markChangesSaved();
+        List<String> journal = readJournal(filePath);
+        storage.saveAddressBookChanges(original, original.getChanges());
+        assertEquals(journal, readJournal(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_withoutChanges_snapshotRewrittenAndJournalDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.readAddressBook();
+        storage.saveAddressBookChanges(original, original.getChanges());
+        original.markChangesSaved();
+
+        original.addPerson(CAM);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Later changes are journaled on top of the new snapshot
+        original.markChangesSaved();
+        original.addPerson(DANNY);
+        storage.saveAddressBookChanges(original, original.getChanges());
+        assertEquals(1, readJournal(filePath).size());
+        assertReadBackEquals(original, filePath);
+    }
+
+    @Test
+    public void saveAddressBookChanges_onlyRecordedChangesAppended() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.readAddressBook();
+        storage.saveAddressBookChanges(original, original.getChanges());
+        original.markChangesSaved();
+
+        // Removing a person also removes their appointment
+        int initialLength = readJournal(filePath).size();
+        original.removePerson(ALICE);
+        original.addPerson(CAM);
+        storage.saveAddressBookChanges(original, original.getChanges());
+        original.markChangesSaved();
+        assertEquals(initialLength + 3, readJournal(filePath).size());
+        assertReadBackEquals(original, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 3);
+        storage.readAddressBook();
+
+        storage.saveAddressBookChanges(original, original.getChanges());
+        original.markChangesSaved();
+        storage.awaitCompaction();
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getCompactingJournalPath(filePath)));
+
+        // The snapshot is a plain json data file
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getAppointmentList(), readBack.getAppointmentList());
+
+        original.addPerson(CAM);
+        storage.saveAddressBookChanges(original, original.getChanges());
+        assertReadBackEquals(original, filePath);
+    }
+
+    @Test
+    public void readAddressBook_partlyWrittenLastEntry_entryDropped() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.readAddressBook();
+        storage.saveAddressBookChanges(original, original.getChanges());
+
+        Files.write(JournaledAddressBookStorage.getJournalPath(filePath),
+                "{\"operation\":\"PUT_PERS".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        JournaledAddressBookStorage reopenedStorage = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopenedStorage.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // Entries saved after recovery are readable
+        readBack.markChangesSaved();
+        readBack.addPerson(CAM);
+        reopenedStorage.saveAddressBookChanges(readBack, readBack.getChanges());
+        assertReadBackEquals(readBack, filePath);
+    }
+
+    @Test
+    public void readAddressBook_corruptedEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.readAddressBook();
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        storage.saveAddressBookChanges(original, original.getChanges());
+
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        List<String> journal = readJournal(filePath);
+        journal.set(0, "not json");
+        Files.write(journalPath, journal, StandardCharsets.UTF_8);
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("data.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    private static void assertReadBackEquals(AddressBook expected, Path filePath) throws Exception {
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(expected, new AddressBook(readBack));
+        assertEquals(expected.getAppointmentList(), readBack.getAppointmentList());
+    }
+
+    private static List<String> readJournal(Path filePath) throws Exception {
+        return new ArrayList<>(Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)));
+    }
+
+    /**
+     * Returns an address book with the typical persons and copies of the typical appointments,
+     * so that tests can modify it freely.
+     */
+    private static AddressBook getTypicalAddressBookWithAppointments() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        getTypicalPersons().forEach(addressBook::addPerson);
+        for (Appointment appointment : getTypicalAppointments()) {
+            addressBook.addAppointment(new Appointment(appointment.getDoctorNric(), appointment.getPatientNric(),
+                    appointment.getAppointmentDateTime()));
+        }
+        return addressBook;
+    }
+}
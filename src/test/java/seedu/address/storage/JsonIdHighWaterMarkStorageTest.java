@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.IdUtil;
+
+public class JsonIdHighWaterMarkStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void forAddressBook_dataFile_fileNextToDataFile() {
+        Path dataFile = testFolder.resolve("addressbook.json");
+        assertEquals(testFolder.resolve("addressbook.json" + JsonIdHighWaterMarkStorage.FILE_SUFFIX),
+                JsonIdHighWaterMarkStorage.forAddressBook(dataFile).getFilePath());
+    }
+
+    @Test
+    public void readHighWaterMarks_missingFile_emptyResult() throws Exception {
+        assertTrue(new JsonIdHighWaterMarkStorage(testFolder.resolve("ids.json")).readHighWaterMarks().isEmpty());
+    }
+
+    @Test
+    public void readHighWaterMarks_invalidFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ids.json");
+        Files.writeString(filePath, "not json");
+        assertThrows(DataLoadingException.class, () -> new JsonIdHighWaterMarkStorage(filePath).readHighWaterMarks());
+    }
+
+    @Test
+    public void saveHighWaterMark_readBack_highestMarkOfEachEntityKept() throws Exception {
+        Path filePath = testFolder.resolve("ids.json");
+        JsonIdHighWaterMarkStorage storage = new JsonIdHighWaterMarkStorage(filePath);
+        storage.saveHighWaterMark(IdUtil.Entities.APPOINTMENT, 512);
+        storage.saveHighWaterMark(IdUtil.Entities.PATIENT, 256);
+        storage.saveHighWaterMark(IdUtil.Entities.APPOINTMENT, 256);
+
+        Map<IdUtil.Entities, Long> read = new JsonIdHighWaterMarkStorage(filePath).readHighWaterMarks();
+        assertEquals(Map.of(IdUtil.Entities.APPOINTMENT, 512L, IdUtil.Entities.PATIENT, 256L), read);
+    }
+}
@@ -0,0 +1,390 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BROWN;
+import static seedu.address.testutil.TypicalPersons.DAMES;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.DeleteAppointmentCommand;
+import seedu.address.logic.commands.QueryAppointmentsBetweenCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDateTime;
+import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PatientBuilder;
+
+public class PartitionedAddressBookStorageTest {
+
+    private static final LocalDateTime WINDOW_START = LocalDateTime.of(2124, 3, 1, 0, 0);
+    private static final AppointmentDateTime FIRST_DAY = new AppointmentDateTime("2124-01-01 00:00");
+    private static final String JANUARY_ARCHIVE = "2124-01" + AppointmentArchive.ARCHIVE_FILE_SUFFIX;
+    private static final AppointmentDateTime LAST_DAY = new AppointmentDateTime("2124-12-31 23:59");
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonAddressBookStorage currentStorage;
+    private Appointment january;
+    private Appointment february;
+    private Appointment march;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        currentStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        january = createAppointment(BROWN, ALICE, "2124-01-10 09:00", "a00000001");
+        february = createAppointment(DAMES, BENSON, "2124-02-05 10:30", "a00000002");
+        march = createAppointment(BROWN, BENSON, "2124-03-05 14:00", "a00000003");
+
+        AddressBook addressBook = new AddressBook();
+        Arrays.asList(ALICE, BENSON, BROWN, DAMES).forEach(addressBook::addPerson);
+        Arrays.asList(january, february, march).forEach(addressBook::addAppointment);
+        currentStorage.saveAddressBook(addressBook);
+    }
+
+    private static Appointment createAppointment(Person doctor, Person patient, String dateTime, String id)
+            throws Exception {
+        return new Appointment(doctor.getNric(), patient.getNric(), new AppointmentDateTime(dateTime),
+                new AppointmentId(id), true);
+    }
+
+    private PartitionedAddressBookStorage createStorage() {
+        return new PartitionedAddressBookStorage(currentStorage, WINDOW_START, 0);
+    }
+
+    private PartitionedAddressBookStorage createArchivingStorage() {
+        return new PartitionedAddressBookStorage(currentStorage, WINDOW_START, 1);
+    }
+
+    private static ModelManager createModel(PartitionedAddressBookStorage storage) throws Exception {
+        ModelManager model = new ModelManager(storage.readAddressBook().get(), new UserPrefs(), storage);
+        model.markAddressBookChangesSaved();
+        return model;
+    }
+
+    @Test
+    public void readAddressBook_pastAppointmentsInDataFile_movedToMonths() throws Exception {
+        PartitionedAddressBookStorage storage = createStorage();
+
+        AddressBook read = new AddressBook(storage.readAddressBook().get());
+        assertEquals(Collections.singletonList(march), read.getAppointmentList());
+        assertEquals(4, read.getPersonList().size());
+        assertEquals(Collections.singletonList(march), currentStorage.readAddressBook().get().getAppointmentList());
+        assertTrue(Files.exists(storage.getMonthsFolder().resolve("2124-01.json")));
+        assertTrue(Files.exists(storage.getMonthsFolder().resolve("2124-02.json")));
+        assertTrue(Files.exists(storage.getMonthsFolder().resolve(PartitionedAddressBookStorage.INDEX_FILE_NAME)));
+    }
+
+    @Test
+    public void loadMonths_afterRead_onlyMatchingMonthsLoadedOnce() throws Exception {
+        PartitionedAddressBookStorage storage = createStorage();
+        storage.readAddressBook();
+
+        assertEquals(Collections.singletonList(january), storage.loadMonthsWithPatient(ALICE.getNric()));
+        assertEquals(Collections.emptyList(), storage.loadMonthsWithPatient(ALICE.getNric()));
+        assertEquals(Collections.singletonList(february), storage.loadMonthsWithDoctor(DAMES.getNric()));
+        assertEquals(Collections.emptyList(), storage.loadMonthsBetween(FIRST_DAY, LAST_DAY));
+    }
+
+    @Test
+    public void loadMonthsBetween_partOfHistory_onlyOverlappingMonthsLoaded() throws Exception {
+        PartitionedAddressBookStorage storage = createStorage();
+        storage.readAddressBook();
+
+        assertEquals(Collections.emptyList(), storage.loadMonthsBetween(LAST_DAY, FIRST_DAY));
+        assertEquals(Collections.singletonList(february), storage.loadMonthsBetween(
+                new AppointmentDateTime("2124-02-28 00:00"), LAST_DAY));
+    }
+
+    @Test
+    public void saveAddressBookChanges_loadedAppointmentDeleted_removedFromMonth() throws Exception {
+        PartitionedAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.markChangesSaved();
+
+        storage.loadMonthsWithPatient(ALICE.getNric()).forEach(addressBook::addLoadedAppointment);
+        storage.saveAddressBookChanges(addressBook, addressBook.getChanges());
+        addressBook.markChangesSaved();
+        addressBook.deleteAppointment(january);
+        storage.saveAddressBookChanges(addressBook, addressBook.getChanges());
+
+        assertFalse(Files.exists(storage.getMonthsFolder().resolve("2124-01.json")));
+        PartitionedAddressBookStorage reopened = createStorage();
+        reopened.readAddressBook();
+        assertEquals(Collections.singletonList(february), reopened.loadMonthsBetween(FIRST_DAY, LAST_DAY));
+    }
+
+    @Test
+    public void saveAddressBookChanges_loadedAppointmentEdited_movedWithinHistory() throws Exception {
+        PartitionedAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.markChangesSaved();
+
+        storage.loadMonthsWithPatient(ALICE.getNric()).forEach(addressBook::addLoadedAppointment);
+        storage.saveAddressBookChanges(addressBook, addressBook.getChanges());
+        addressBook.markChangesSaved();
+        Appointment loaded = addressBook.getAppointmentsByPatientNric(ALICE.getNric()).get(0);
+        addressBook.setAppointment(loaded, createAppointment(BROWN, ALICE, "2124-02-10 09:00", "a00000001"));
+        storage.saveAddressBookChanges(addressBook, addressBook.getChanges());
+
+        PartitionedAddressBookStorage reopened = createStorage();
+        reopened.readAddressBook();
+        List<Appointment> history = reopened.loadMonthsBetween(FIRST_DAY, LAST_DAY);
+        assertEquals(2, history.size());
+        assertTrue(history.contains(createAppointment(BROWN, ALICE, "2124-02-10 09:00", "a00000001")));
+        assertFalse(Files.exists(storage.getMonthsFolder().resolve("2124-01.json")));
+    }
+
+    @Test
+    public void saveAddressBookChanges_journaledDataFile_onlyCurrentChangesJournaled() throws Exception {
+        JournaledAddressBookStorage journaledStorage =
+                new JournaledAddressBookStorage(currentStorage.getAddressBookFilePath());
+        PartitionedAddressBookStorage storage = new PartitionedAddressBookStorage(journaledStorage, WINDOW_START, 0);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.markChangesSaved();
+
+        Appointment april = createAppointment(DAMES, ALICE, "2124-04-01 09:00", "a00000004");
+        Appointment pastJanuary = createAppointment(DAMES, ALICE, "2124-01-20 09:00", "a00000005");
+        addressBook.addAppointment(april);
+        addressBook.addAppointment(pastJanuary);
+        storage.saveAddressBookChanges(addressBook, addressBook.getChanges());
+
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(currentStorage.getAddressBookFilePath());
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        PartitionedAddressBookStorage reopened = new PartitionedAddressBookStorage(
+                new JournaledAddressBookStorage(currentStorage.getAddressBookFilePath()), WINDOW_START, 0);
+        assertEquals(Arrays.asList(march, april), reopened.readAddressBook().get().getAppointmentList());
+        assertEquals(Arrays.asList(january, pastJanuary), reopened.loadMonthsWithPatient(ALICE.getNric()));
+    }
+
+    @Test
+    public void loadMonthWithId_unloadedPastAppointment_onlyItsMonthLoaded() throws Exception {
+        PartitionedAddressBookStorage storage = createStorage();
+        storage.readAddressBook();
+
+        assertEquals(Collections.singletonList(january), storage.loadMonthWithId(january.getAppointmentId()));
+        assertEquals(Collections.emptyList(), storage.loadMonthWithId(january.getAppointmentId()));
+        assertEquals(Collections.emptyList(), storage.loadMonthWithId(new AppointmentId("a00000099")));
+        assertEquals(Collections.singletonList(february), storage.loadMonthsBetween(FIRST_DAY, LAST_DAY));
+    }
+
+    @Test
+    public void loadMonthWithId_appointmentMovedToAnotherMonth_loadsNewMonth() throws Exception {
+        PartitionedAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.markChangesSaved();
+
+        storage.loadMonthsWithPatient(ALICE.getNric()).forEach(addressBook::addLoadedAppointment);
+        storage.saveAddressBookChanges(addressBook, addressBook.getChanges());
+        addressBook.markChangesSaved();
+        Appointment moved = createAppointment(BROWN, ALICE, "2124-02-10 09:00", "a00000001");
+        addressBook.setAppointment(january, moved);
+        storage.saveAddressBookChanges(addressBook, addressBook.getChanges());
+
+        PartitionedAddressBookStorage reopened = createStorage();
+        reopened.readAddressBook();
+        List<Appointment> loaded = reopened.loadMonthWithId(january.getAppointmentId());
+        assertEquals(2, loaded.size());
+        assertTrue(loaded.contains(moved));
+    }
+
+    @Test
+    public void loadMonthWithId_indexWithoutIds_indexRebuilt() throws Exception {
+        PartitionedAddressBookStorage storage = createStorage();
+        storage.readAddressBook();
+        Path indexPath = storage.getMonthsFolder().resolve(PartitionedAddressBookStorage.INDEX_FILE_NAME);
+        JsonUtil.saveJsonFile(new JsonSerializableMonthIndex(Collections.singletonMap("2124-01",
+                Arrays.asList(BROWN.getNric().nric, ALICE.getNric().nric)), null), indexPath);
+
+        PartitionedAddressBookStorage reopened = createStorage();
+        reopened.readAddressBook();
+        assertEquals(Collections.singletonList(february), reopened.loadMonthWithId(february.getAppointmentId()));
+        assertTrue(JsonUtil.readJsonFile(indexPath, JsonSerializableMonthIndex.class).get().hasIds());
+    }
+
+    @Test
+    public void deleteAppointmentById_unloadedPastAppointment_removedFromMonth() throws Exception {
+        PartitionedAddressBookStorage storage = createStorage();
+        ModelManager model = createModel(storage);
+
+        new DeleteAppointmentCommand(february.getAppointmentId()).execute(model);
+        storage.saveAddressBookChanges(model.getAddressBook(), model.getAddressBookChanges());
+
+        PartitionedAddressBookStorage reopened = createStorage();
+        reopened.readAddressBook();
+        assertEquals(Collections.singletonList(january), reopened.loadMonthsBetween(FIRST_DAY, LAST_DAY));
+    }
+
+    @Test
+    public void saveAddressBookChanges_pastMonthsOnlyQueried_nothingChanged() throws Exception {
+        PartitionedAddressBookStorage storage = createStorage();
+        ModelManager model = createModel(storage);
+
+        new QueryAppointmentsBetweenCommand(FIRST_DAY, LAST_DAY).execute(model);
+
+        assertEquals(Arrays.asList(march, january, february), model.getFilteredAppointmentList());
+        assertTrue(model.getAddressBookChanges().isEmpty());
+    }
+
+    @Test
+    public void saveAddressBookChanges_patientWithUnloadedMonthsDeleted_removedFromMonths() throws Exception {
+        PartitionedAddressBookStorage storage = createStorage();
+        ModelManager model = createModel(storage);
+
+        model.deletePerson(ALICE);
+        storage.saveAddressBookChanges(model.getAddressBook(), model.getAddressBookChanges());
+
+        assertFalse(Files.exists(storage.getMonthsFolder().resolve("2124-01.json")));
+        PartitionedAddressBookStorage reopened = createStorage();
+        ModelManager reopenedModel = createModel(reopened);
+        new QueryAppointmentsBetweenCommand(FIRST_DAY, LAST_DAY).execute(reopenedModel);
+        assertEquals(Arrays.asList(march, february), reopenedModel.getFilteredAppointmentList());
+    }
+
+    @Test
+    public void saveAddressBookChanges_nricOfPatientWithUnloadedMonthsEdited_monthsUpdated() throws Exception {
+        PartitionedAddressBookStorage storage = createStorage();
+        ModelManager model = createModel(storage);
+        Person editedBenson = new PatientBuilder(BENSON).withNric("S7654321B").build();
+
+        model.setPerson(BENSON, editedBenson);
+        storage.saveAddressBookChanges(model.getAddressBook(), model.getAddressBookChanges());
+
+        PartitionedAddressBookStorage reopened = createStorage();
+        reopened.readAddressBook();
+        assertEquals(Collections.emptyList(), reopened.loadMonthsWithPatient(BENSON.getNric()));
+        List<Appointment> history = reopened.loadMonthsWithPatient(editedBenson.getNric());
+        assertEquals(1, history.size());
+        assertEquals(Nric.of("S7654321B"), history.get(0).getPatientNric());
+    }
+
+    @Test
+    public void saveAddressBookChanges_replacedAfterDiscard_monthsDeleted() throws Exception {
+        PartitionedAddressBookStorage storage = createStorage();
+        storage.readAddressBook();
+
+        AddressBook cleared = new AddressBook();
+        cleared.resetData(new AddressBook());
+        storage.discardUnloadedMonths();
+        storage.saveAddressBookChanges(cleared, cleared.getChanges());
+
+        assertEquals(Collections.emptyList(), storage.loadMonthsBetween(FIRST_DAY, LAST_DAY));
+        PartitionedAddressBookStorage reopened = createStorage();
+        assertTrue(reopened.readAddressBook().get().getAppointmentList().isEmpty());
+        assertEquals(Collections.emptyList(), reopened.loadMonthsBetween(FIRST_DAY, LAST_DAY));
+    }
+
+    @Test
+    public void saveAddressBookChanges_replacedWithoutDiscard_monthsKept() throws Exception {
+        PartitionedAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook();
+        addressBook.resetData(storage.readAddressBook().get());
+        storage.saveAddressBookChanges(addressBook, addressBook.getChanges());
+
+        PartitionedAddressBookStorage reopened = createStorage();
+        reopened.readAddressBook();
+        assertEquals(Arrays.asList(january, february), reopened.loadMonthsBetween(FIRST_DAY, LAST_DAY));
+    }
+
+    @Test
+    public void readAddressBook_indexMissing_indexRebuilt() throws Exception {
+        PartitionedAddressBookStorage storage = createStorage();
+        storage.readAddressBook();
+        Files.delete(storage.getMonthsFolder().resolve(PartitionedAddressBookStorage.INDEX_FILE_NAME));
+
+        PartitionedAddressBookStorage reopened = createStorage();
+        reopened.readAddressBook();
+        assertEquals(Collections.singletonList(january), reopened.loadMonthsWithDoctor(BROWN.getNric()));
+    }
+
+    @Test
+    public void readAddressBook_monthsBeforeHorizon_archived() throws Exception {
+        PartitionedAddressBookStorage storage = createArchivingStorage();
+        storage.readAddressBook();
+
+        assertTrue(Files.exists(storage.getMonthsFolder().resolve(JANUARY_ARCHIVE)));
+        assertFalse(Files.exists(storage.getMonthsFolder().resolve("2124-01.json")));
+        assertTrue(Files.exists(storage.getMonthsFolder().resolve("2124-02.json")));
+
+        PartitionedAddressBookStorage reopened = createArchivingStorage();
+        reopened.readAddressBook();
+        List<Appointment> history = reopened.loadMonthsBetween(FIRST_DAY, LAST_DAY);
+        assertEquals(Arrays.asList(january, february), history);
+        assertTrue(reopened.isArchived(history.get(0)));
+        assertFalse(reopened.isArchived(history.get(1)));
+    }
+
+    @Test
+    public void saveAddressBookChanges_archivedAppointmentLoaded_archiveNotRewritten() throws Exception {
+        PartitionedAddressBookStorage storage = createArchivingStorage();
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.markChangesSaved();
+        Path archivePath = storage.getMonthsFolder().resolve(JANUARY_ARCHIVE);
+        byte[] archived = Files.readAllBytes(archivePath);
+
+        storage.loadMonthsWithPatient(ALICE.getNric()).forEach(addressBook::addLoadedAppointment);
+        storage.saveAddressBookChanges(addressBook, addressBook.getChanges());
+
+        assertTrue(Arrays.equals(archived, Files.readAllBytes(archivePath)));
+        assertFalse(Files.exists(storage.getMonthsFolder().resolve("2124-01.json")));
+    }
+
+    @Test
+    public void loadMonths_monthFileLeftAfterArchiving_archivedAppointmentsLoadedOnce() throws Exception {
+        PartitionedAddressBookStorage storage = createArchivingStorage();
+        storage.readAddressBook();
+        Path januaryPath = storage.getMonthsFolder().resolve("2124-01.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(new ArrayList<>(),
+                Collections.singletonList(new JsonAdaptedAppointment(january))), januaryPath);
+
+        PartitionedAddressBookStorage reopened = createArchivingStorage();
+        reopened.readAddressBook();
+        assertEquals(Collections.singletonList(january), reopened.loadMonthsWithPatient(ALICE.getNric()));
+        assertFalse(Files.exists(januaryPath));
+    }
+
+    @Test
+    public void readPastAppointmentIds_monthsAndArchive_allIdsReadWithoutLoading() throws Exception {
+        PartitionedAddressBookStorage storage = createArchivingStorage();
+        storage.readAddressBook();
+
+        assertEquals(Arrays.asList(january.getAppointmentId(), february.getAppointmentId()),
+                storage.readPastAppointmentIds());
+        assertEquals(Arrays.asList(january, february), storage.loadMonthsBetween(FIRST_DAY, LAST_DAY));
+    }
+
+    @Test
+    public void saveAddressBookChanges_replacedAfterDiscard_archiveDeleted() throws Exception {
+        PartitionedAddressBookStorage storage = createArchivingStorage();
+        storage.readAddressBook();
+
+        AddressBook cleared = new AddressBook();
+        cleared.resetData(new AddressBook());
+        storage.discardUnloadedMonths();
+        storage.saveAddressBookChanges(cleared, cleared.getChanges());
+
+        assertFalse(Files.exists(storage.getMonthsFolder().resolve(JANUARY_ARCHIVE)));
+        PartitionedAddressBookStorage reopened = createArchivingStorage();
+        reopened.readAddressBook();
+        assertEquals(Collections.emptyList(), reopened.loadMonthsBetween(FIRST_DAY, LAST_DAY));
+    }
+}
@@ -2,17 +2,36 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_1;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_2;
+import static seedu.address.testutil.TypicalAppointments.APPOINTMENT_4;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PatientBuilder;
 
 public class StorageManagerTest {
 
@@ -58,6 +77,146 @@ public class StorageManagerTest {
         assertEquals(Optional.empty(), retrieved);
     }
 
+    @Test
+    public void saveAddressBookChangesInBackground_thenFlush_dataSaved() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBookChangesInBackground(original, original.getChanges());
+        original.markChangesSaved();
+        original.removePerson(ALICE);
+        storageManager.saveAddressBookChangesInBackground(original, original.getChanges());
+        original.markChangesSaved();
+
+        storageManager.flush();
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChangesInBackground_personsEdited_savedInTheSameOrder() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addAppointment(APPOINTMENT_4);
+        storageManager.saveAddressBookChangesInBackground(original, original.getChanges());
+        original.markChangesSaved();
+
+        // Editing the NRIC of BENSON replaces APPOINTMENT_4, and editing ALICE twice replaces her twice
+        original.setPerson(BENSON, new PatientBuilder(BENSON).withNric("S7654321B").build());
+        Person editedAlice = new PatientBuilder(ALICE).withPhone("11111111").build();
+        original.setPerson(ALICE, editedAlice);
+        storageManager.saveAddressBookChangesInBackground(original, original.getChanges());
+        original.markChangesSaved();
+        original.setPerson(editedAlice, new PatientBuilder(editedAlice).withPhone("22222222").build());
+        storageManager.saveAddressBookChangesInBackground(original, original.getChanges());
+        original.markChangesSaved();
+
+        storageManager.flush();
+        ReadOnlyAddressBook saved = storageManager.readAddressBook().get();
+        assertEquals(original.getPersonList(), saved.getPersonList());
+        assertEquals(original.getAppointmentList(), saved.getAppointmentList());
+    }
+
+    @Test
+    public void saveAddressBookChangesInBackground_appointmentEditedTwiceWithSameDetails_latestEditSaved()
+            throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addAppointment(APPOINTMENT_1);
+        original.addAppointment(APPOINTMENT_2);
+        storageManager.saveAddressBookChangesInBackground(original, original.getChanges());
+        original.markChangesSaved();
+
+        // Both edits keep the doctor, patient and date time, and only give the appointment a new id
+        Appointment firstEdit = new AppointmentBuilder(APPOINTMENT_1).build();
+        Appointment secondEdit = new AppointmentBuilder(APPOINTMENT_1).build();
+        original.setAppointment(APPOINTMENT_1, firstEdit);
+        original.setAppointment(firstEdit, secondEdit);
+        storageManager.saveAddressBookChangesInBackground(original, original.getChanges());
+        original.markChangesSaved();
+
+        storageManager.flush();
+        ReadOnlyAddressBook saved = storageManager.readAddressBook().get();
+        assertEquals(original.getAppointmentList(), saved.getAppointmentList());
+        assertEquals(secondEdit.getAppointmentId(), saved.getAppointmentList().get(0).getAppointmentId());
+    }
+
+    @Test
+    public void saveAddressBookChangesInBackground_burstWhileSaving_coalescedIntoOneWrite() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch firstSaveReleased = new CountDownLatch(1);
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (saveCount.incrementAndGet() == 1) {
+                    firstSaveStarted.countDown();
+                    try {
+                        firstSaveReleased.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        storageManager = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        storageManager.saveAddressBookChangesInBackground(original, original.getChanges());
+        firstSaveStarted.await();
+
+        // These arrive while the first save is still being written
+        original.removePerson(ALICE);
+        storageManager.saveAddressBookChangesInBackground(original, original.getChanges());
+        original.addPerson(BENSON);
+        storageManager.saveAddressBookChangesInBackground(original, original.getChanges());
+        firstSaveReleased.countDown();
+
+        storageManager.flush();
+        assertEquals(2, saveCount.get());
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChangesInBackground_saveFails_handlerCalledAndRetriedOnFlush() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        AtomicInteger remainingFailures = new AtomicInteger(1);
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (remainingFailures.getAndDecrement() > 0) {
+                    throw failure;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        storageManager = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        List<IOException> failures = new ArrayList<>();
+        storageManager.setSaveFailureHandler(failures::add);
+
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBookChangesInBackground(original, original.getChanges());
+        storageManager.flush();
+
+        assertEquals(List.of(failure), failures);
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveQuarantinedAppointments_calledTwice_earlierAppointmentsKept() throws Exception {
+        storageManager.saveQuarantinedAppointments(List.of(APPOINTMENT_1));
+        storageManager.saveQuarantinedAppointments(List.of(APPOINTMENT_2, APPOINTMENT_4));
+
+        JsonSerializableAddressBook quarantined = JsonUtil.readJsonFile(storageManager.getQuarantineFilePath(),
+                JsonSerializableAddressBook.class).get();
+        assertEquals(List.of(APPOINTMENT_1, APPOINTMENT_2, APPOINTMENT_4),
+                quarantined.toModelType().getAppointmentList());
+    }
+
+    @Test
+    public void saveQuarantinedAppointments_unreadableQuarantineFile_throwsIoException() throws Exception {
+        FileUtil.writeToFile(storageManager.getQuarantineFilePath(), "not json");
+        assertThrows(IOException.class, () -> storageManager.saveQuarantinedAppointments(List.of(APPOINTMENT_1)));
+        assertEquals("not json", FileUtil.readFromFile(storageManager.getQuarantineFilePath()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalAppointments;
+import seedu.address.testutil.TypicalPersons;
+
+public class StreamingJsonAddressBookTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path TYPICAL_APPOINTMENTS_FILE = TEST_DATA_FOLDER.resolve(
+            "typicalAppointmentsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_APPOINTMENT_FILE = TEST_DATA_FOLDER.resolve(
+            "duplicateAppointmentAddressBook.json");
+    private static final Path NOT_JSON_FILE = Paths.get("src", "test", "data", "JsonAddressBookStorageTest",
+            "notJsonFormatAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getShortTypicalAddressBook(), StreamingJsonAddressBook.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_typicalAppointmentsFile_success() throws Exception {
+        assertEquals(TypicalAppointments.getTypicalAddressBook(),
+                StreamingJsonAddressBook.read(TYPICAL_APPOINTMENTS_FILE));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> StreamingJsonAddressBook.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                StreamingJsonAddressBook.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicateAppointments_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_APPOINTMENTS, () ->
+                StreamingJsonAddressBook.read(DUPLICATE_APPOINTMENT_FILE));
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsIoException() {
+        assertThrows(IOException.class, () -> StreamingJsonAddressBook.read(NOT_JSON_FILE));
+    }
+
+    @Test
+    public void write_typicalAddressBook_sameAsJsonSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = StreamingJsonAddressBook.read(TYPICAL_APPOINTMENTS_FILE);
+        StreamingJsonAddressBook.write(original, filePath, 0);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)),
+                FileUtil.readFromFile(filePath));
+
+        AddressBook readBack = StreamingJsonAddressBook.read(filePath);
+        assertEquals(original, readBack);
+        assertEquals(original.getAppointmentList(), readBack.getAppointmentList());
+    }
+}
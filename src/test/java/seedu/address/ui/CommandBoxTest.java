@@ -0,0 +1,38 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandBoxTest {
+
+    @Test
+    public void getCompletionStart_nricParameter_startsAfterPrefix() {
+        assertEquals(11, CommandBox.getCompletionStart("addappt pn/S12"));
+        assertEquals(11, CommandBox.getCompletionStart("addappt pn/"));
+        assertEquals(31, CommandBox.getCompletionStart("addappt ad/2124-01-01 10:00 dn/"));
+        assertEquals(10, CommandBox.getCompletionStart("patient i/S1"));
+    }
+
+    @Test
+    public void getCompletionStart_nameWithSeveralWords_wholeNameCompleted() {
+        assertEquals(11, CommandBox.getCompletionStart("addappt pn/john d"));
+        assertEquals(15, CommandBox.getCompletionStart("apptforpatient john d"));
+    }
+
+    @Test
+    public void getCompletionStart_nricKeywords_startsAfterLastCompleteNric() {
+        assertEquals(14, CommandBox.getCompletionStart("apptfordoctor S1"));
+        assertEquals(24, CommandBox.getCompletionStart("apptfordoctor S1234567A ali"));
+    }
+
+    @Test
+    public void getCompletionStart_nricNotExpected_returnsMinusOne() {
+        assertEquals(-1, CommandBox.getCompletionStart("ali"));
+        assertEquals(-1, CommandBox.getCompletionStart("apptforpatient"));
+        assertEquals(-1, CommandBox.getCompletionStart("patient ali"));
+        assertEquals(-1, CommandBox.getCompletionStart("find ali"));
+        assertEquals(-1, CommandBox.getCompletionStart("patient i/S1234567A n/ali"));
+        assertEquals(-1, CommandBox.getCompletionStart("addappt pn/S1234567A ad/2124"));
+    }
+}